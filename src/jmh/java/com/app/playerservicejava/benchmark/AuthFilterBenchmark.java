@@ -0,0 +1,82 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.config.CustomAuthenticationFilter;
+import com.app.playerservicejava.security.InMemoryCredentialStore;
+import com.app.playerservicejava.security.Pbkdf2PasswordHasher;
+import com.app.playerservicejava.security.SecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link CustomAuthenticationFilter}: a repeat caller served from the verified-credential
+ * cache, a wrong password (a full PBKDF2 check every time) and a missing header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    @Param({"cached", "invalid", "missing"})
+    public String header;
+
+    private CustomAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ServletException {
+        SecurityProperties.User user = new SecurityProperties.User();
+        user.setPasswordHash(Pbkdf2PasswordHasher.hash("secret".toCharArray()));
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getUsers().put("bench", user);
+        InMemoryCredentialStore credentialStore = new InMemoryCredentialStore();
+        ReflectionTestUtils.setField(credentialStore, "securityProperties", securityProperties);
+        filter = new CustomAuthenticationFilter(credentialStore, securityProperties, new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/v1/players/aaronha01");
+        switch (header) {
+            case "cached" -> request.addHeader(HttpHeaders.AUTHORIZATION, basic("bench:secret"));
+            case "invalid" -> request.addHeader(HttpHeaders.AUTHORIZATION, basic("bench:wrong"));
+            default -> { }
+        }
+        // Puts the valid header in the verified-credential cache
+        filter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+    }
+
+    @Benchmark
+    public int doFilter() throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, CHAIN);
+        return response.getStatus();
+    }
+
+    private static String basic(String credentials) {
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
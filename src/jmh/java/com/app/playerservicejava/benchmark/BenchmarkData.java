@@ -0,0 +1,125 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.PlayerServiceJavaApplication;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.loader.PlayerCsvParser;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared fixtures: the players from Player.csv, a synthetic csv of any size, and an application
+ * context on a private in-memory H2 database seeded by the startup loader.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Starts the application without a web server. The database is in memory and unique per call, the
+     * simulated lookup delay is off and logging is quiet; {@code properties} override anything else.
+     */
+    static ConfigurableApplicationContext startApplication(String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.h2.console.enabled=false",
+                "player-service.lookup.simulated-delay=0s",
+                "logging.level.root=WARN"));
+        all.addAll(List.of(properties));
+        // As command-line arguments: builder properties are only defaults, and application.yml would win
+        return new SpringApplicationBuilder(PlayerServiceJavaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static ByteBuffer playerCsv() {
+        try (InputStream in = new ClassPathResource("Player.csv").getInputStream()) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Player> loadPlayers() {
+        ByteBuffer csv = playerCsv();
+        PlayerCsvParser parser = new PlayerCsvParser(csv, new int[0]);
+        List<Player> players = new ArrayList<>();
+        for (Object[] row : parser.parse(csv, parser.dataStart(), csv.limit()).getRows()) {
+            players.add(toPlayer(row));
+        }
+        return players;
+    }
+
+    // Row layout is PlayerBulkRepository.COLUMNS
+    static Player toPlayer(Object[] row) {
+        Player player = new Player();
+        player.setPlayerId((String) row[0]);
+        player.setBirthYear((Integer) row[1]);
+        player.setBirthMonth((Integer) row[2]);
+        player.setBirthDay((Integer) row[3]);
+        player.setBirthCountry((String) row[4]);
+        player.setBirthState((String) row[5]);
+        player.setBirthCity((String) row[6]);
+        player.setDeathYear((Integer) row[7]);
+        player.setDeathMonth((Integer) row[8]);
+        player.setDeathDay((Integer) row[9]);
+        player.setDeathCountry((String) row[10]);
+        player.setDeathState((String) row[11]);
+        player.setDeathCity((String) row[12]);
+        player.setFirstName((String) row[13]);
+        player.setLastName((String) row[14]);
+        player.setGivenName((String) row[15]);
+        player.setWeight((Integer) row[16]);
+        player.setHeight((Integer) row[17]);
+        player.setBats((String) row[18]);
+        player.setThrowStats((String) row[19]);
+        player.setDebut((LocalDate) row[20]);
+        player.setFinalGame((LocalDate) row[21]);
+        player.setRetroId((String) row[22]);
+        player.setBbrefId((String) row[23]);
+        return player;
+    }
+
+    /**
+     * Writes a csv with the Player.csv header and {@code rows} rows, cycling through the real players
+     * with a numeric suffix on the IDs so every row is unique.
+     */
+    static Path writeSyntheticCsv(int rows) {
+        try {
+            List<String> lines = new String(playerCsv().array(), StandardCharsets.UTF_8).lines().toList();
+            Path file = Files.createTempFile("players-" + rows + "-", ".csv");
+            file.toFile().deleteOnExit();
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(lines.get(0));
+                writer.newLine();
+                int source = lines.size() - 1;
+                for (int i = 0; i < rows; i++) {
+                    String line = lines.get(1 + i % source);
+                    int comma = line.indexOf(',');
+                    writer.write(line, 0, comma);
+                    writer.write(Integer.toString(i / source, 36));
+                    writer.write(line, comma, line.length() - comma);
+                    writer.newLine();
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
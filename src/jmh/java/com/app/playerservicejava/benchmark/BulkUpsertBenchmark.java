@@ -0,0 +1,83 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.BulkUpsertResponse;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayerBulkService;
+import com.app.playerservicejava.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the same {@value #ROWS} existing players through v1/players/bulk's chunked JDBC batch upsert
+ * against one {@code savePlayer} call per row. Scores are per row, so the reciprocal is rows per
+ * microsecond. Every invocation changes each player's weight so both paths issue real updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkUpsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerBulkService playerBulkService;
+    private List<Player> players;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        playerService = context.getBean(PlayerService.class);
+        playerBulkService = context.getBean(PlayerBulkService.class);
+        players = BenchmarkData.loadPlayers().subList(0, ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    private void changeWeights() {
+        round++;
+        for (Player player : players) {
+            player.setWeight(150 + (round & 63));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BulkUpsertResponse bulkUpsert() {
+        changeWeights();
+        return playerBulkService.upsertPlayers(players.iterator(), ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Player savePlayerLoop() {
+        changeWeights();
+        Player last = null;
+        for (Player player : players) {
+            last = playerService.savePlayer(player);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,104 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.service.loader.PlayerCsvParser;
+import com.app.playerservicejava.service.loader.PlayerCsvParser.ParsedChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup data path: parsing the player csv (the real 19k rows and a synthetic 10M-row file) single-threaded
+ * and on every core, cut into chunks the way {@code PlayerDataLoader} does. Single-shot, since startup is a
+ * one-off cost rather than a steady state; {@link StartupBenchmark} times the whole start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoaderBenchmark {
+
+    private static final int CHUNK_BYTES = 1024 * 1024;
+
+    @Param({"19370", "10000000"})
+    public int rows;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private Path syntheticCsv;
+    private ByteBuffer data;
+    private ExecutorService parsers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (rows == 19370) {
+            data = BenchmarkData.playerCsv();
+        } else {
+            syntheticCsv = BenchmarkData.writeSyntheticCsv(rows);
+            try (FileChannel channel = FileChannel.open(syntheticCsv, StandardOpenOption.READ)) {
+                data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        parsers = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        parsers.shutdownNow();
+        if (syntheticCsv != null) {
+            Files.deleteIfExists(syntheticCsv);
+        }
+    }
+
+    /**
+     * Parses every chunk and returns the row count; rows are dropped per chunk so the 10M-row run measures
+     * parsing rather than heap growth.
+     */
+    @Benchmark
+    public long parse() throws InterruptedException, ExecutionException {
+        PlayerCsvParser parser = new PlayerCsvParser(data, new int[0]);
+        List<Future<Integer>> chunks = new ArrayList<>();
+        int from = parser.dataStart();
+        while (from < data.limit()) {
+            int chunkStart = from;
+            int chunkEnd = parser.nextLineStart(data, (int) Math.min(data.limit(), (long) from + CHUNK_BYTES));
+            chunks.add(parsers.submit(() -> {
+                ParsedChunk chunk = parser.parse(data, chunkStart, chunkEnd);
+                return chunk.getRows().size();
+            }));
+            from = chunkEnd;
+        }
+        long parsed = 0;
+        for (Future<Integer> chunk : chunks) {
+            parsed += chunk.get();
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,92 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.PlayerNameSearchResponse;
+import com.app.playerservicejava.service.index.PlayerNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * v1/players/search/name against the same lookup as an H2 LIKE scan: every query word has to appear in the
+ * first, last or given name. "mcgwier" is a typo only the fuzzy index finds; "j" is a short prefix that
+ * matches thousands of players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"aaron h", "mcgwire", "mcgwier", "j"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private PlayerNameIndex playerNameIndex;
+    private JdbcTemplate jdbcTemplate;
+    private String likeSql;
+    private Object[] likeArgs;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        playerNameIndex = context.getBean(PlayerNameIndex.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        StringBuilder sql = new StringBuilder("SELECT PLAYERID FROM PLAYERS WHERE ");
+        List<Object> args = new ArrayList<>();
+        String[] words = query.toLowerCase(Locale.ROOT).split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append("(LOWER(NAMEFIRST) LIKE ? OR LOWER(NAMELAST) LIKE ? OR LOWER(NAMEGIVEN) LIKE ?)");
+            String pattern = "%" + words[i] + "%";
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        likeSql = sql.append(" ORDER BY NAMELAST, NAMEFIRST LIMIT ").append(LIMIT).toString();
+        likeArgs = args.toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public PlayerNameSearchResponse index() {
+        return playerNameIndex.search(query, LIMIT, true);
+    }
+
+    @Benchmark
+    public PlayerNameSearchResponse indexWithoutFuzzy() {
+        return playerNameIndex.search(query, LIMIT, false);
+    }
+
+    @Benchmark
+    public List<String> h2Like() {
+        return jdbcTemplate.queryForList(likeSql, String.class, likeArgs);
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.KeysetPlayersResponse;
+import com.app.playerservicejava.model.PaginatedPlayersResponse;
+import com.app.playerservicejava.service.PlayerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offset vs keyset pagination per sort column and page depth (1900 pages of 10 is the end of the table).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"playerId", "lastName", "birthYear"})
+    public String sortBy;
+
+    @Param({"0", "100", "1900"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private String keysetCursor;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        playerService = context.getBean(PlayerService.class);
+
+        // Walk the keyset pages once so the keyset benchmark starts at the same depth as the offset one
+        String cursor = null;
+        for (int i = 0; i < page; i++) {
+            cursor = playerService.getPlayersKeyset(cursor, PAGE_SIZE, sortBy, "asc").getNextCursor();
+        }
+        keysetCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaginatedPlayersResponse offset() {
+        return playerService.getPlayersPaginated(page, PAGE_SIZE, sortBy, "asc");
+    }
+
+    @Benchmark
+    public KeysetPlayersResponse keyset() {
+        return playerService.getPlayersKeyset(keysetCursor, PAGE_SIZE, sortBy, "asc");
+    }
+}
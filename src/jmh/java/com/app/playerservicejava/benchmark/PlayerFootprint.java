@@ -0,0 +1,106 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retained heap per cached {@link Player}, measured with JOL over every player as the repository loads it:
+ * the typed entity next to the all-VARCHAR layout it replaced, where numbers and dates were text and every
+ * column was its own String. A size rather than a time, so not a JMH benchmark; the benchmarks profile runs
+ * it before JMH. Shared objects (small Integers, interned literals) count once, as they do in the cache.
+ */
+public final class PlayerFootprint {
+
+    private PlayerFootprint() {
+    }
+
+    public static void main(String[] args) {
+        List<Player> players;
+        try (ConfigurableApplicationContext context = BenchmarkData.startApplication()) {
+            players = new ArrayList<>();
+            context.getBean(PlayerRepository.class).findAll().forEach(players::add);
+        }
+        List<UntypedPlayer> untyped = players.stream().map(UntypedPlayer::new).toList();
+
+        report("typed (INT/DATE)", players.size(), GraphLayout.parseInstance(players.toArray()));
+        report("all VARCHAR", untyped.size(), GraphLayout.parseInstance(untyped.toArray()));
+    }
+
+    private static void report(String layout, int count, GraphLayout graph) {
+        System.out.printf("Player footprint, %-22s players=%d, objects/player=%.1f, bytes/player=%.1f, totalKiB=%d%n",
+                layout + ":", count, (double) graph.totalCount() / count, (double) graph.totalSize() / count,
+                graph.totalSize() / 1024);
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    // Each column a distinct String, as a JDBC driver hands VARCHAR values back
+    private static String copy(String value) {
+        return value == null ? null : new String(value);
+    }
+
+    /**
+     * Player as it was mapped when PLAYERS came straight from CSVREAD.
+     */
+    @SuppressWarnings("unused")
+    private static final class UntypedPlayer {
+        private final String playerId;
+        private final String birthYear;
+        private final String birthMonth;
+        private final String birthDay;
+        private final String birthCountry;
+        private final String birthState;
+        private final String birthCity;
+        private final String deathYear;
+        private final String deathMonth;
+        private final String deathDay;
+        private final String deathCountry;
+        private final String deathState;
+        private final String deathCity;
+        private final String firstName;
+        private final String lastName;
+        private final String givenName;
+        private final String weight;
+        private final String height;
+        private final String bats;
+        private final String throwStats;
+        private final String debut;
+        private final String finalGame;
+        private final String retroId;
+        private final String bbrefId;
+
+        UntypedPlayer(Player player) {
+            playerId = copy(player.getPlayerId());
+            birthYear = text(player.getBirthYear());
+            birthMonth = text(player.getBirthMonth());
+            birthDay = text(player.getBirthDay());
+            birthCountry = copy(player.getBirthCountry());
+            birthState = copy(player.getBirthState());
+            birthCity = copy(player.getBirthCity());
+            deathYear = text(player.getDeathYear());
+            deathMonth = text(player.getDeathMonth());
+            deathDay = text(player.getDeathDay());
+            deathCountry = copy(player.getDeathCountry());
+            deathState = copy(player.getDeathState());
+            deathCity = copy(player.getDeathCity());
+            firstName = copy(player.getFirstName());
+            lastName = copy(player.getLastName());
+            givenName = copy(player.getGivenName());
+            weight = text(player.getWeight());
+            height = text(player.getHeight());
+            bats = copy(player.getBats());
+            throwStats = copy(player.getThrowStats());
+            debut = text(player.getDebut());
+            finalGame = text(player.getFinalGame());
+            retroId = copy(player.getRetroId());
+            bbrefId = copy(player.getBbrefId());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.config.CachingConfiguration;
+import com.app.playerservicejava.model.BatchGetPlayersResponse;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.model.PlayerSearchResponse;
+import com.app.playerservicejava.model.Players;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.index.PlayerColumnarIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-level hot paths against an in-memory H2 loaded from Player.csv: lookups by ID (cache hit and
+ * miss), the full roster (materialized and streamed), batch-get, columnar search and saves.
+ * {@code streamPlayersFirstRow} is the streamed roster's time to first byte: the first row reaches the
+ * sink, which then aborts the stream the way a client disconnect does. The materialized roster has
+ * nothing to write before {@code getPlayers} returns. {@link RetainedHeap} prints what each of the two
+ * keeps reachable at its peak; JMH's {@code -prof gc} only shows what they allocate.
+ * {@code searchSql} answers the columnar search's criteria with the equivalent H2 queries (the page and
+ * the total match count). Pagination is covered by {@link PaginationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerServiceBenchmark {
+
+    private static final String PLAYER_ID = "aaronha01";
+
+    // searchCriteria as SQL, with the index's order: missing weights last, ties by playerId
+    private static final String SEARCH_SQL = "SELECT * FROM PLAYERS WHERE BIRTHCOUNTRY IN (?) AND BATS IN (?) "
+            + "AND BIRTHYEAR >= ? ORDER BY WEIGHT DESC NULLS LAST, PLAYERID LIMIT ?";
+    private static final String SEARCH_COUNT_SQL = "SELECT COUNT(*) FROM PLAYERS WHERE BIRTHCOUNTRY IN (?) "
+            + "AND BATS IN (?) AND BIRTHYEAR >= ?";
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerColumnarIndex playerColumnarIndex;
+    private CacheManager cacheManager;
+    private JdbcTemplate jdbcTemplate;
+    private List<String> batchIds;
+    private PlayerSearchCriteria searchCriteria;
+    private Player savedPlayer;
+    private int saveCounter;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        playerService = context.getBean(PlayerService.class);
+        playerColumnarIndex = context.getBean(PlayerColumnarIndex.class);
+        cacheManager = context.getBean(CacheManager.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        batchIds = playerService.getPlayersPaginated(0, 100, "playerId", "asc").getPlayers().stream()
+                .map(Player::getPlayerId)
+                .toList();
+
+        searchCriteria = new PlayerSearchCriteria();
+        searchCriteria.setBirthCountries(List.of("USA"));
+        searchCriteria.setBats(List.of("L"));
+        searchCriteria.setMinBirthYear(1950);
+        searchCriteria.setSortBy("weight");
+        searchCriteria.setSortDirection("desc");
+        searchCriteria.setLimit(50);
+
+        savedPlayer = playerService.getPlayerById(PLAYER_ID).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Player> getPlayerByIdCacheHit() {
+        return playerService.getPlayerById(PLAYER_ID);
+    }
+
+    /**
+     * Clearing the cache per invocation is only acceptable because a miss costs a query (tens of microseconds).
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+        @Setup(Level.Invocation)
+        public void evict(PlayerServiceBenchmark benchmark) {
+            benchmark.cacheManager.getCache(CachingConfiguration.PLAYERS_CACHE).evict(PLAYER_ID);
+        }
+    }
+
+    @Benchmark
+    public Optional<Player> getPlayerByIdCacheMiss(ColdCache coldCache) {
+        return playerService.getPlayerById(PLAYER_ID);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = {"-Djdk.attach.allowAttachSelf=true", "-XX:+EnableDynamicAgentLoading"})
+    public Players getPlayers(RetainedHeap retainedHeap) {
+        return playerService.getPlayers();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = {"-Djdk.attach.allowAttachSelf=true", "-XX:+EnableDynamicAgentLoading"})
+    public long streamPlayers(RetainedHeap retainedHeap, Blackhole blackhole) {
+        return playerService.streamPlayers(blackhole::consume);
+    }
+
+    @Benchmark
+    public Player streamPlayersFirstRow() {
+        Player[] first = new Player[1];
+        try {
+            playerService.streamPlayers(player -> {
+                first[0] = player;
+                throw StopStream.INSTANCE;
+            });
+        } catch (StopStream e) {
+            // expected after the first row
+        }
+        return first[0];
+    }
+
+    private static final class StopStream extends RuntimeException {
+        static final StopStream INSTANCE = new StopStream();
+
+        private StopStream() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Players each roster path keeps reachable at its peak and the size of their object graph (JOL, as in
+     * {@link PlayerFootprint}; the attach flags on the two benchmarks are for JOL): all of them while the list from getPlayers is in hand, and whatever rows
+     * streamPlayers has handed over that survive a full GC half way through. Counted from the rows
+     * rather than from heap usage, which moves by a few MB between collections here. A size rather than
+     * a time, so it is printed rather than scored, once per trial of the benchmarks that take this state.
+     */
+    @State(Scope.Benchmark)
+    public static class RetainedHeap {
+        @Setup(Level.Trial)
+        public void measure(PlayerServiceBenchmark benchmark) {
+            PlayerService playerService = benchmark.playerService;
+            List<Player> materialized = playerService.getPlayers().getPlayers();
+            report("getPlayers", materialized.size(), materialized);
+
+            List<WeakReference<Player>> handedOver = new ArrayList<>();
+            List<Player> reachable = new ArrayList<>();
+            int half = materialized.size() / 2;
+            materialized = null;
+            playerService.streamPlayers(player -> {
+                handedOver.add(new WeakReference<>(player));
+                if (handedOver.size() == half) {
+                    System.gc();
+                    handedOver.stream().map(WeakReference::get).filter(Objects::nonNull).forEach(reachable::add);
+                }
+            });
+            report("streamPlayers", handedOver.size(), reachable);
+        }
+
+        private static void report(String path, int rows, List<Player> reachable) {
+            System.out.printf("Roster players reachable at peak, %-14s rows=%d, reachable=%d, totalKiB=%d%n",
+                    path + ":", rows, reachable.size(), GraphLayout.parseInstance(reachable.toArray()).totalSize() / 1024);
+        }
+    }
+
+    @Benchmark
+    public BatchGetPlayersResponse getPlayersByIds() {
+        return playerService.getPlayersByIds(batchIds);
+    }
+
+    @Benchmark
+    public PlayerSearchResponse searchColumnarIndex() {
+        return playerColumnarIndex.search(searchCriteria);
+    }
+
+    @Benchmark
+    public int searchSql() {
+        List<Map<String, Object>> page = jdbcTemplate.queryForList(SEARCH_SQL, "USA", "L", 1950, 50);
+        Integer totalMatches = jdbcTemplate.queryForObject(SEARCH_COUNT_SQL, Integer.class, "USA", "L", 1950);
+        return page.size() + totalMatches;
+    }
+
+    @Benchmark
+    public Player savePlayer() {
+        savedPlayer.setWeight(150 + (saveCounter++ & 63));
+        return playerService.savePlayer(savedPlayer);
+    }
+}
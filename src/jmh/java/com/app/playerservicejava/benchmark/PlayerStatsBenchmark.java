@@ -0,0 +1,87 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerStatsResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import com.app.playerservicejava.service.index.PlayerStatsAggregates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * v1/players/stats from the materialized aggregates against the GROUP BY queries that compute the same
+ * numbers from PLAYERS. {@code snapshot} is a read between changes, {@code changeAndSnapshot} a read right
+ * after a save (delta plus rebuilding the response), {@code liveSql} the on-demand alternative.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerStatsBenchmark {
+
+    private static final List<String> STATS_SQL = List.of(
+            "SELECT BIRTHCOUNTRY, COUNT(*) FROM PLAYERS GROUP BY BIRTHCOUNTRY",
+            "SELECT BIRTHSTATE, COUNT(*) FROM PLAYERS GROUP BY BIRTHSTATE",
+            "SELECT BATS, THROWS, COUNT(*) FROM PLAYERS GROUP BY BATS, THROWS",
+            // Debut decade counts and the era averages in one pass
+            "SELECT YEAR(DEBUT) / 10 * 10 AS DECADE, COUNT(*), AVG(CAST(HEIGHT AS DOUBLE)), AVG(CAST(WEIGHT AS DOUBLE)) "
+                    + "FROM PLAYERS GROUP BY DECADE");
+
+    private ConfigurableApplicationContext context;
+    private PlayerStatsAggregates playerStatsAggregates;
+    private JdbcTemplate jdbcTemplate;
+    private Player changed;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        playerStatsAggregates = context.getBean(PlayerStatsAggregates.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        changed = BenchmarkData.loadPlayers().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public PlayerStatsResponse snapshot() {
+        return playerStatsAggregates.snapshot();
+    }
+
+    @Benchmark
+    public PlayerStatsResponse changeAndSnapshot() {
+        // Alternates the player's weight so every call is a real delta
+        changed.setWeight(changed.getWeight() == null || changed.getWeight() != 200 ? 200 : 201);
+        playerStatsAggregates.onPlayersChanged(new PlayersChangedEvent(List.of(changed)));
+        return playerStatsAggregates.snapshot();
+    }
+
+    @Benchmark
+    public int liveSql() {
+        int rows = 0;
+        for (String sql : STATS_SQL) {
+            List<Map<String, Object>> result = jdbcTemplate.queryForList(sql);
+            rows += result.size();
+        }
+        return rows;
+    }
+}
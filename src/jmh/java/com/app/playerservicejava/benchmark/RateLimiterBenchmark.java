@@ -0,0 +1,67 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.security.TokenBucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TokenBucket#tryConsume} under contention: eight threads on one client's bucket (CAS retries),
+ * one bucket per thread (no sharing), and a drained bucket that only ever answers with a wait.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    // Refills faster than the threads can drain it, so every call takes a token
+    private static TokenBucket unlimitedBucket() {
+        return new TokenBucket(1_000_000, 1e9, System.nanoTime());
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedBucket {
+        final TokenBucket bucket = unlimitedBucket();
+    }
+
+    @State(Scope.Thread)
+    public static class OwnBucket {
+        final TokenBucket bucket = unlimitedBucket();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DrainedBucket {
+        final TokenBucket bucket = new TokenBucket(1, 1e-6, System.nanoTime());
+
+        public DrainedBucket() {
+            bucket.tryConsume(1, System.nanoTime());
+        }
+    }
+
+    @Benchmark
+    public long sharedBucket(SharedBucket state) {
+        return state.bucket.tryConsume(1, System.nanoTime());
+    }
+
+    @Benchmark
+    public long bucketPerThread(OwnBucket state) {
+        return state.bucket.tryConsume(1, System.nanoTime());
+    }
+
+    @Benchmark
+    public long overLimit(DrainedBucket state) {
+        return state.bucket.tryConsume(1, System.nanoTime());
+    }
+}
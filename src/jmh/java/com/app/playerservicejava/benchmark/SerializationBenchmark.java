@@ -0,0 +1,114 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.controller.SerializedResponse;
+import com.app.playerservicejava.model.PaginatedPlayersResponse;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.Players;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode cost per wire format (JSON, CBOR, Smile) for one player, a page of 100 and the full roster,
+ * with and without gzip. Encoded sizes (bytes on the wire) are printed once per trial. {@code preEncoded}
+ * is what a response cache hit costs instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"player", "page", "roster"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private SerializedResponse preEncoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Same settings Boot applies to the mappers behind the HTTP message converters
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        List<Player> players = BenchmarkData.loadPlayers();
+        value = switch (payload) {
+            case "player" -> players.get(0);
+            case "page" -> {
+                PaginatedPlayersResponse page = new PaginatedPlayersResponse();
+                page.setPlayers(players.subList(0, 100));
+                page.setSize(100);
+                page.setTotalElements(players.size());
+                page.setTotalPages((players.size() + 99) / 100);
+                page.setHasNext(true);
+                page.setFirst(true);
+                yield page;
+            }
+            default -> {
+                Players roster = new Players();
+                roster.setPlayers(players);
+                yield roster;
+            }
+        };
+
+        byte[] encoded = encode();
+        preEncoded = SerializedResponse.of(encoded);
+        System.out.printf("%n[wire size] format=%s payload=%s bytes=%d gzipBytes=%d%n",
+                format, payload, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] encodeGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(value));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> preEncoded() {
+        return preEncoded.toResponseEntity("gzip, deflate");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
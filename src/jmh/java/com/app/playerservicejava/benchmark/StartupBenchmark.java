@@ -0,0 +1,39 @@
+package com.app.playerservicejava.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to a started application context on an empty database: context refresh, the csv load and the
+ * index build. Forked per measurement so every start is a cold JVM, like a real deployment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    @Benchmark
+    public boolean startApplication() {
+        try (ConfigurableApplicationContext context = BenchmarkData.startApplication(
+                "player-service.loader.parallelism=" + parallelism)) {
+            return context.isActive();
+        }
+    }
+}
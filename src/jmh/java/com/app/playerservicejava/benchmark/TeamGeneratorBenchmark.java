@@ -0,0 +1,70 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.TeamFeatures;
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import com.app.playerservicejava.service.team.TeamGeneratorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process team generation (feature scan plus top-K) for seed players and raw features. The comparison
+ * with the Python team-model server under concurrency is the team-native/team-python load-test scenarios.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamGeneratorBenchmark {
+
+    @Param({"10", "100"})
+    public int teamSize;
+
+    private ConfigurableApplicationContext context;
+    private TeamGeneratorService teamGeneratorService;
+    private List<String> seedIds;
+    private TeamGenerateRequest featuresRequest;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkData.startApplication();
+        teamGeneratorService = context.getBean(TeamGeneratorService.class);
+        seedIds = BenchmarkData.loadPlayers().stream().map(Player::getPlayerId).toList();
+        featuresRequest = new TeamGenerateRequest(null, new TeamFeatures(1990.0, 74.0, 200.0, "L", "L"), teamSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public TeamGenerateResponse generateFromSeed() {
+        String seedId = seedIds.get(next++ % seedIds.size());
+        return teamGeneratorService.generate(new TeamGenerateRequest(seedId, null, teamSize)).orElseThrow();
+    }
+
+    @Benchmark
+    public TeamGenerateResponse generateFromFeatures() {
+        return teamGeneratorService.generate(featuresRequest).orElseThrow();
+    }
+}
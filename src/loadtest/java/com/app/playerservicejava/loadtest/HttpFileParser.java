@@ -0,0 +1,84 @@
+package com.app.playerservicejava.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the IntelliJ/VS Code style .http files in {@code collection/}: requests separated by {@code ###},
+ * an optional {@code ### title} comment, the request line, headers, a blank line and an optional body.
+ */
+final class HttpFileParser {
+
+    private static final Pattern REQUEST_LINE =
+            Pattern.compile("^(GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS)\\s+(\\S+)(\\s+HTTP/\\S+)?$");
+    private static final Pattern EXPECTED_STATUS = Pattern.compile("should return (\\d{3})");
+
+    private HttpFileParser() {
+    }
+
+    static List<HttpRequestSpec> parse(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+        String fileName = file.getFileName().toString();
+        List<HttpRequestSpec> requests = new ArrayList<>();
+        String title = null;
+        int i = 0;
+        while (i < lines.size()) {
+            String line = lines.get(i).trim();
+            i++;
+            if (line.startsWith("#") || line.startsWith("//")) {
+                String comment = line.replaceFirst("^(#+|//)", "").trim();
+                if (!comment.isEmpty()) {
+                    title = comment;
+                }
+                continue;
+            }
+            Matcher request = REQUEST_LINE.matcher(line);
+            if (!request.matches()) {
+                continue;
+            }
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            while (i < lines.size() && !lines.get(i).isBlank() && !lines.get(i).trim().startsWith("###")) {
+                String header = lines.get(i).trim();
+                int colon = header.indexOf(':');
+                if (colon > 0 && !header.startsWith("#")) {
+                    headers.put(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+                }
+                i++;
+            }
+            StringBuilder body = new StringBuilder();
+            while (i < lines.size() && !lines.get(i).trim().startsWith("###")) {
+                body.append(lines.get(i)).append('\n');
+                i++;
+            }
+
+            String name = fileName + "#" + (requests.size() + 1) + (title == null ? "" : " " + title);
+            Matcher status = EXPECTED_STATUS.matcher(title == null ? "" : title);
+            requests.add(new HttpRequestSpec(name, request.group(1), pathOf(request.group(2)), headers,
+                    body.toString().trim(), status.find() ? Integer.parseInt(status.group(1)) : 0));
+            title = null;
+        }
+        return requests;
+    }
+
+    private static String pathOf(String url) {
+        URI uri = URI.create(url);
+        String query = uri.getRawQuery();
+        return uri.getRawPath() + (query == null || query.isEmpty() ? "" : "?" + query);
+    }
+}
@@ -0,0 +1,87 @@
+package com.app.playerservicejava.loadtest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One request from a collection .http file, with the host stripped so it can be sent to any base URL.
+ */
+final class HttpRequestSpec {
+
+    private final String name;
+    private final String method;
+    private final String path;
+    private final Map<String, String> headers;
+    private final String body;
+    private final int expectedStatus;
+
+    HttpRequestSpec(String name, String method, String path, Map<String, String> headers, String body,
+                    int expectedStatus) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body;
+        this.expectedStatus = expectedStatus;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * Path and query, e.g. {@code /v1/players/paginated?page=0&size=5}, or an absolute URL for requests that
+     * go to another server than the one under test.
+     */
+    String getPath() {
+        return path;
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    String getBody() {
+        return body;
+    }
+
+    /**
+     * Status the request is written to produce (from a "should return 401" style title), or 0 for any 2xx.
+     */
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    boolean isSuccess(int status) {
+        return expectedStatus == 0 ? status >= 200 && status < 300 : status == expectedStatus;
+    }
+
+    HttpRequestSpec withPath(String newPath) {
+        return new HttpRequestSpec(name, method, newPath, headers, body, expectedStatus);
+    }
+
+    HttpRequestSpec withBody(String newBody) {
+        return new HttpRequestSpec(name, method, path, headers, newBody, expectedStatus);
+    }
+
+    HttpRequestSpec withDefaultHeader(String header, String value) {
+        for (String existing : headers.keySet()) {
+            if (existing.equalsIgnoreCase(header)) {
+                return this;
+            }
+        }
+        Map<String, String> withHeader = new LinkedHashMap<>(headers);
+        withHeader.put(header, value);
+        return new HttpRequestSpec(name, method, path, withHeader, body, expectedStatus);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path + " (" + name + ")";
+    }
+}
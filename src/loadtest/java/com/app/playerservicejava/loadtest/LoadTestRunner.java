@@ -0,0 +1,351 @@
+package com.app.playerservicejava.loadtest;
+
+import com.app.playerservicejava.PlayerServiceJavaApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the collection/*.http scenarios under load and gates on a thresholds file.
+ *
+ * Without {@code loadtest.base-url} the service is started in this JVM on a random port with a private
+ * in-memory database, rate limiting off and no simulated lookup delay; {@code loadtest.app.<property>}
+ * system properties are passed to it (e.g. {@code -Dloadtest.app.spring.threads.virtual.enabled=true}).
+ * Each scenario is run by {@code loadtest.concurrency} virtual users, closed-loop unless
+ * {@code loadtest.rate} sets a total request rate, in which case latency is measured from each request's
+ * scheduled start so a stalled server is not hidden by users waiting on it.
+ *
+ * {@code loadtest.team-model-url} (e.g. {@code http://localhost:5000}) adds the team-python scenario, the
+ * Python team-model server under the same load as team-native.
+ *
+ * Prints a summary, writes {@code loadtest.report} as JSON and fails (non-zero exit) when any threshold
+ * in {@code loadtest.thresholds} is breached.
+ */
+public final class LoadTestRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final String DEFAULT_AUTHORIZATION =
+            "Basic " + Base64.getEncoder().encodeToString("admin:admin123".getBytes(StandardCharsets.UTF_8));
+
+    private final String baseUrl;
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private final Duration requestTimeout = Duration.parse(System.getProperty("loadtest.request-timeout", "PT10S"));
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+    private final double rate = Double.parseDouble(System.getProperty("loadtest.rate", "0"));
+    private final String authorization = System.getProperty("loadtest.authorization", DEFAULT_AUTHORIZATION);
+    private final HttpClient httpClient;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoadTestRunner(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String baseUrl = System.getProperty("loadtest.base-url", "");
+        ConfigurableApplicationContext application = null;
+        List<ScenarioResult> results;
+        try {
+            if (baseUrl.isBlank()) {
+                application = startApplication();
+                baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+            results = new LoadTestRunner(baseUrl).runAll();
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+
+        Thresholds thresholds = new Thresholds(loadThresholds());
+        List<String> failures = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            result.setViolations(thresholds.check(result));
+            result.getViolations().forEach(violation -> failures.add(result.getScenario() + " " + violation));
+        }
+        printSummary(results);
+        Path report = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+        System.out.println("Report written to " + report.toAbsolutePath());
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Load test thresholds breached:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+    private List<ScenarioResult> runAll() {
+        List<String> roster = fetchPlayerIds();
+        List<String> coldIds = new ArrayList<>(roster);
+        Collections.shuffle(coldIds, new Random(Long.getLong("loadtest.seed", 42L)));
+        List<String> hotIds = coldIds.subList(0, Math.min(coldIds.size(), Integer.getInteger("loadtest.hot-players", 100)));
+        String writerIdPrefix = "lt" + UUID.randomUUID().toString().substring(0, 4);
+
+        Map<String, Scenario> scenarios = new Scenarios(Path.of(System.getProperty("loadtest.collection", "collection")),
+                hotIds, coldIds, concurrency, writerIdPrefix, System.getProperty("loadtest.team-model-url")).all();
+        String selected = System.getProperty("loadtest.scenarios", String.join(",", scenarios.keySet()));
+        List<ScenarioResult> results = new ArrayList<>();
+        for (String name : selected.split(",")) {
+            Scenario scenario = scenarios.get(name.trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario " + name + "; known: " + scenarios.keySet());
+            }
+            results.add(run(scenario));
+        }
+        return results;
+    }
+
+    private ScenarioResult run(Scenario scenario) {
+        // Warming up a cold scenario would defeat it; it is measured from the first request
+        Duration scenarioWarmup = Duration.ZERO;
+        if (scenario.isColdCache()) {
+            clearCaches();
+        } else {
+            scenarioWarmup = warmup;
+        }
+        LOGGER.info("message=Running load-test scenario; scenario={}, concurrency={}, warmup={}, duration={}, rate={}",
+                   scenario.getName(), concurrency, scenarioWarmup, duration, rate > 0 ? rate : "closed-loop");
+
+        Timer latency = Timer.builder("loadtest.latency")
+                .tag("scenario", scenario.getName())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .percentilePrecision(3)
+                // One window covering the whole run, so percentiles are over every measured request
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+        LongAdder errors = new LongAdder();
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicBoolean exhausted = new AtomicBoolean();
+        long start = System.nanoTime();
+        long measureFrom = start + scenarioWarmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long intervalNanos = rate > 0 ? (long) (concurrency * 1e9 / rate) : 0;
+
+        List<Future<?>> virtualUsers = new ArrayList<>(concurrency);
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < concurrency; user++) {
+                virtualUsers.add(users.submit(() -> {
+                    long scheduled = System.nanoTime();
+                    while (!exhausted.get() && System.nanoTime() < end) {
+                        HttpRequestSpec request = scenario.nextRequest();
+                        if (request == null) {
+                            exhausted.set(true);
+                            break;
+                        }
+                        long sentAt;
+                        if (intervalNanos > 0) {
+                            scheduled += intervalNanos;
+                            for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                                LockSupport.parkNanos(wait);
+                            }
+                            sentAt = scheduled;
+                        } else {
+                            sentAt = System.nanoTime();
+                        }
+                        String outcome;
+                        boolean success;
+                        try {
+                            int status = httpClient.send(toHttpRequest(request), HttpResponse.BodyHandlers.discarding()).statusCode();
+                            outcome = Integer.toString(status);
+                            success = request.isSuccess(status);
+                        } catch (IOException | RuntimeException e) {
+                            // A failed request is an error outcome, not the end of this virtual user
+                            outcome = e.getClass().getSimpleName();
+                            success = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        if (sentAt >= measureFrom) {
+                            latency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                            outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                            if (!success) {
+                                errors.increment();
+                            }
+                        }
+                    }
+                }));
+            }
+        }
+        // Anything that escaped a request (e.g. building the next one) would silently shrink the load; fail instead
+        for (Future<?> virtualUser : virtualUsers) {
+            try {
+                virtualUser.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A virtual user failed in scenario " + scenario.getName(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running scenario " + scenario.getName(), e);
+            }
+        }
+
+        double seconds = Math.max(1e-9, (Math.min(System.nanoTime(), end) - measureFrom) / 1e9);
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        ScenarioResult result = new ScenarioResult();
+        result.setScenario(scenario.getName());
+        result.setDescription(scenario.getDescription());
+        result.setConcurrency(concurrency);
+        result.setRequests(snapshot.count());
+        result.setErrors(errors.sum());
+        result.setErrorRate(snapshot.count() == 0 ? 0 : (double) errors.sum() / snapshot.count());
+        result.setDurationSeconds(seconds);
+        result.setThroughput(snapshot.count() / seconds);
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double millis = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                result.setP50Ms(millis);
+            } else if (percentile.percentile() == 0.99) {
+                result.setP99Ms(millis);
+            } else {
+                result.setP999Ms(millis);
+            }
+        }
+        result.setMaxMs(snapshot.max(TimeUnit.MILLISECONDS));
+        outcomes.forEach((outcome, count) -> result.getOutcomes().put(outcome, count.sum()));
+        result.setExhausted(exhausted.get());
+        meterRegistry.remove(latency);
+        return result;
+    }
+
+    private HttpRequest toHttpRequest(HttpRequestSpec spec) {
+        if (spec.getExpectedStatus() == 0) {
+            spec = spec.withDefaultHeader("Authorization", authorization);
+        }
+        String url = spec.getPath().startsWith("http") ? spec.getPath() : baseUrl + spec.getPath();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .method(spec.getMethod(), spec.getBody().isEmpty()
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(spec.getBody()));
+        spec.getHeaders().forEach(builder::header);
+        return builder.build();
+    }
+
+    private List<String> fetchPlayerIds() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/players/paginated"))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Could not list players: HTTP " + response.statusCode());
+                }
+                List<String> playerIds = new ArrayList<>();
+                for (JsonNode player : new ObjectMapper().readTree(body).path("players")) {
+                    playerIds.add(player.path("playerId").asText());
+                }
+                if (playerIds.isEmpty()) {
+                    throw new IllegalStateException("The service has no players to test against");
+                }
+                return playerIds;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list players from " + baseUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while listing players", e);
+        }
+    }
+
+    // Actuator's caches endpoint clears every cache, including the pre-encoded responses
+    private void clearCaches() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/caches"))
+                .header("Authorization", authorization)
+                .timeout(requestTimeout)
+                .DELETE()
+                .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status / 100 != 2) {
+                LOGGER.warn("message=Could not clear caches, cold scenario may start warm; status={}", status);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("message=Could not clear caches, cold scenario may start warm; error={}", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "spring.h2.console.enabled=false",
+                "player-service.rate-limit.enabled=false",
+                "player-service.lookup.simulated-delay=0s",
+                "logging.level.root=WARN"));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest.app."))
+                .forEach(name -> properties.add(name.substring("loadtest.app.".length()) + "=" + System.getProperty(name)));
+        // As command-line arguments: builder properties are only defaults, and application.yml would win
+        return new SpringApplicationBuilder(PlayerServiceJavaApplication.class)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    private static Properties loadThresholds() throws IOException {
+        Properties thresholds = new Properties();
+        String location = System.getProperty("loadtest.thresholds");
+        try (InputStream in = location == null
+                ? new ClassPathResource("loadtest-thresholds.properties").getInputStream()
+                : Files.newInputStream(Path.of(location))) {
+            thresholds.load(in);
+        }
+        return thresholds;
+    }
+
+    private static void printSummary(List<ScenarioResult> results) {
+        System.out.printf("%n%-11s %8s %7s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "result");
+        for (ScenarioResult result : results) {
+            System.out.printf("%-11s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    result.getScenario(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50Ms(), result.getP99Ms(), result.getP999Ms(), result.getMaxMs(),
+                    result.getViolations().isEmpty() ? "PASS" : "FAIL " + result.getViolations());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.app.playerservicejava.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * A weighted mix of requests replayed by concurrent virtual users.
+ *
+ * Each step produces the request for a given sequence number (shared by every user of the step), so a step
+ * can walk through distinct player IDs; a step that returns null is exhausted and ends the scenario early.
+ */
+final class Scenario {
+
+    private final String name;
+    private final String description;
+    private final boolean coldCache;
+    private final List<Step> steps;
+    private final long totalWeight;
+
+    private Scenario(String name, String description, boolean coldCache, List<Step> steps) {
+        this.name = name;
+        this.description = description;
+        this.coldCache = coldCache;
+        this.steps = List.copyOf(steps);
+        this.totalWeight = steps.stream().mapToLong(step -> step.weight).sum();
+    }
+
+    static Builder builder(String name, String description) {
+        return new Builder(name, description);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * Whether the service's caches are cleared before the scenario starts.
+     */
+    boolean isColdCache() {
+        return coldCache;
+    }
+
+    /**
+     * Picks a step by weight and returns its next request, or null once that step is exhausted.
+     */
+    HttpRequestSpec nextRequest() {
+        long pick = ThreadLocalRandom.current().nextLong(totalWeight);
+        for (Step step : steps) {
+            pick -= step.weight;
+            if (pick < 0) {
+                return step.next();
+            }
+        }
+        throw new IllegalStateException("Scenario " + name + " has no steps");
+    }
+
+    private static final class Step {
+        private final long weight;
+        private final LongFunction<HttpRequestSpec> requests;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Step(long weight, LongFunction<HttpRequestSpec> requests) {
+            this.weight = weight;
+            this.requests = requests;
+        }
+
+        private HttpRequestSpec next() {
+            return requests.apply(sequence.getAndIncrement());
+        }
+    }
+
+    static final class Builder {
+        private final String name;
+        private final String description;
+        private final List<Step> steps = new ArrayList<>();
+        private boolean coldCache;
+
+        private Builder(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        Builder coldCache() {
+            this.coldCache = true;
+            return this;
+        }
+
+        /**
+         * Sends {@code request} as is.
+         */
+        Builder step(long weight, HttpRequestSpec request) {
+            return step(weight, sequence -> request);
+        }
+
+        /**
+         * Sends one of {@code requests}, spreading {@code weight} evenly across them.
+         */
+        Builder steps(long weight, List<HttpRequestSpec> requests) {
+            for (HttpRequestSpec request : requests) {
+                step(Math.max(1, weight / requests.size()), request);
+            }
+            return this;
+        }
+
+        Builder step(long weight, LongFunction<HttpRequestSpec> requests) {
+            steps.add(new Step(weight, requests));
+            return this;
+        }
+
+        Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("Scenario " + name + " has no requests");
+            }
+            return new Scenario(name, description, coldCache, steps);
+        }
+    }
+}
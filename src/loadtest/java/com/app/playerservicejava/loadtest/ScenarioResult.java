@@ -0,0 +1,40 @@
+package com.app.playerservicejava.loadtest;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measurements for one scenario, excluding its warm-up; written to the JSON report.
+ */
+@Data
+class ScenarioResult {
+
+    private String scenario;
+    private String description;
+    private int concurrency;
+    private long requests;
+    private long errors;
+    private double errorRate;
+    private double durationSeconds;
+    private double throughput;
+    private double p50Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+
+    /**
+     * Response status (or exception name) -> count.
+     */
+    private Map<String, Long> outcomes = new TreeMap<>();
+
+    /**
+     * True when the scenario ran out of requests (e.g. every cold player was looked up) before its duration.
+     */
+    private boolean exhausted;
+
+    private List<String> violations = new ArrayList<>();
+}
@@ -0,0 +1,171 @@
+package com.app.playerservicejava.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The load-test scenarios, each built from requests in the collection .http files:
+ *
+ * <ul>
+ *   <li>{@code sync-warm} / {@code async-warm}: lookups of a small hot set of players and the pagination
+ *       requests from PaginationTests, UnifiedPlayersEndpoint and AsyncEndpoints, with warm caches</li>
+ *   <li>{@code sync-cold} / {@code async-cold}: caches cleared first, then every player is looked up once</li>
+ *   <li>{@code herd}: caches cleared, then every virtual user asks for the same cold player at once</li>
+ *   <li>{@code writers}: the sync-warm mix with one request in ten creating a player, which evicts cached
+ *       responses while they are being read</li>
+ *   <li>{@code team-native}: v1/team/generate seeded with every player in turn</li>
+ *   <li>{@code team-python}: the same requests sent to the Python team-model server, when its URL is set</li>
+ * </ul>
+ */
+final class Scenarios {
+
+    static final String SYNC_WARM = "sync-warm";
+    static final String ASYNC_WARM = "async-warm";
+    static final String SYNC_COLD = "sync-cold";
+    static final String ASYNC_COLD = "async-cold";
+    static final String HERD = "herd";
+    static final String WRITERS = "writers";
+    static final String TEAM_NATIVE = "team-native";
+    static final String TEAM_PYTHON = "team-python";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path collectionDir;
+    private final List<String> hotIds;
+    private final List<String> coldIds;
+    private final int herdSize;
+    private final String writerIdPrefix;
+    private final String teamModelUrl;
+
+    /**
+     * @param hotIds         players looked up repeatedly by the warm scenarios
+     * @param coldIds        every player, in the order the cold scenarios look them up
+     * @param herdSize       concurrent requests per player in the herd scenario
+     * @param writerIdPrefix prefix for the IDs of players created by the writers, unique per run
+     * @param teamModelUrl   base URL of the Python team-model server, or null to leave out team-python
+     */
+    Scenarios(Path collectionDir, List<String> hotIds, List<String> coldIds, int herdSize, String writerIdPrefix,
+              String teamModelUrl) {
+        this.collectionDir = collectionDir;
+        this.hotIds = hotIds;
+        this.coldIds = coldIds;
+        this.herdSize = herdSize;
+        this.writerIdPrefix = writerIdPrefix;
+        this.teamModelUrl = teamModelUrl;
+    }
+
+    Map<String, Scenario> all() {
+        HttpRequestSpec byId = first("GetPlayerById.http", request -> true);
+        HttpRequestSpec byIdAsync = first("AsyncEndpoints.http", request -> request.getName().contains("Get Player By ID Async"));
+        List<HttpRequestSpec> pages = pageReads("PaginationTests.http", "UnifiedPlayersEndpoint.http");
+        List<HttpRequestSpec> asyncPages = pageReads("AsyncEndpoints.http");
+        HttpRequestSpec allPlayers = first("UnifiedPlayersEndpoint.http", request -> request.getPath().equals("/v1/players/paginated"));
+        HttpRequestSpec allPlayersAsync = first("AsyncEndpoints.http", request -> request.getPath().equals("/v1/players/paginated/async"));
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put(SYNC_WARM, warmMix(Scenario.builder(SYNC_WARM, "Hot-set lookups and pagination, warm caches"),
+                byId, "", pages, allPlayers).build());
+        scenarios.put(ASYNC_WARM, warmMix(Scenario.builder(ASYNC_WARM, "Async hot-set lookups and pagination, warm caches"),
+                byIdAsync, "/async", asyncPages, allPlayersAsync).build());
+        scenarios.put(SYNC_COLD, Scenario.builder(SYNC_COLD, "Every player looked up once after clearing caches")
+                .coldCache()
+                .step(1, sequence -> sequence < coldIds.size() ? withPlayerId(byId, coldIds.get((int) sequence), "") : null)
+                .build());
+        scenarios.put(ASYNC_COLD, Scenario.builder(ASYNC_COLD, "Every player looked up once via async after clearing caches")
+                .coldCache()
+                .step(1, sequence -> sequence < coldIds.size() ? withPlayerId(byIdAsync, coldIds.get((int) sequence), "/async") : null)
+                .build());
+        scenarios.put(HERD, Scenario.builder(HERD, herdSize + " concurrent lookups per cold player")
+                .coldCache()
+                .step(1, sequence -> sequence / herdSize < coldIds.size()
+                        ? withPlayerId(byId, coldIds.get((int) (sequence / herdSize)), "") : null)
+                .build());
+
+        HttpRequestSpec create = first("CreatePlayer.http", request -> true);
+        HttpRequestSpec createSpecific = first("CreatePlayerSpecific.http", request -> true);
+        HttpRequestSpec createAsync = first("AsyncEndpoints.http", request -> request.getName().contains("Create Player Async"));
+        scenarios.put(WRITERS, warmMix(Scenario.builder(WRITERS, "sync-warm mix with 10% player creates"),
+                byId, "", pages, allPlayers)
+                .step(50, sequence -> withNewPlayer(create, "c", sequence))
+                .step(30, sequence -> withNewPlayer(createSpecific, "s", sequence))
+                .step(20, sequence -> withNewPlayer(createAsync, "a", sequence))
+                .build());
+
+        HttpRequestSpec team = first("TeamGenerate.http", request -> request.getPath().equals("/v1/team/generate"));
+        scenarios.put(TEAM_NATIVE, Scenario.builder(TEAM_NATIVE, "In-process team generation, seed rotating over all players")
+                .step(1, sequence -> withSeed(team, coldIds.get((int) (sequence % coldIds.size()))))
+                .build());
+        if (teamModelUrl != null) {
+            HttpRequestSpec remote = first("TeamGenerate.http", request -> request.getPath().equals("/team/generate"))
+                    .withPath(teamModelUrl + "/team/generate");
+            scenarios.put(TEAM_PYTHON, Scenario.builder(TEAM_PYTHON, "Python team-model server, same requests as team-native")
+                    .step(1, sequence -> withSeed(remote, coldIds.get((int) (sequence % coldIds.size()))))
+                    .build());
+        }
+        return scenarios;
+    }
+
+    // 70% lookups spread over the hot set, 29% pages, 1% full roster
+    private Scenario.Builder warmMix(Scenario.Builder builder, HttpRequestSpec byId, String suffix,
+                                     List<HttpRequestSpec> pages, HttpRequestSpec allPlayers) {
+        return builder
+                .step(700, sequence -> withPlayerId(byId, hotIds.get((int) (sequence % hotIds.size())), suffix))
+                .steps(290, pages)
+                .step(10, allPlayers);
+    }
+
+    private static HttpRequestSpec withPlayerId(HttpRequestSpec request, String playerId, String suffix) {
+        return request.withPath("/v1/players/" + playerId + suffix);
+    }
+
+    private HttpRequestSpec withNewPlayer(HttpRequestSpec request, String writer, long sequence) {
+        String playerId = writerIdPrefix + writer + Long.toString(sequence, 36);
+        try {
+            ObjectNode body = (ObjectNode) OBJECT_MAPPER.readTree(request.getBody());
+            body.put("playerId", playerId);
+            body.put("retroId", playerId);
+            body.put("bbrefId", playerId);
+            return request.withBody(OBJECT_MAPPER.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Invalid body in " + request.getName(), e);
+        }
+    }
+
+    private static HttpRequestSpec withSeed(HttpRequestSpec request, String seedId) {
+        try {
+            ObjectNode body = (ObjectNode) OBJECT_MAPPER.readTree(request.getBody());
+            body.put("seed_id", seedId);
+            return request.withBody(OBJECT_MAPPER.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Invalid body in " + request.getName(), e);
+        }
+    }
+
+    // Paginated GETs expected to succeed; requests written to check 401s and parameterless full dumps are left out
+    private List<HttpRequestSpec> pageReads(String... files) {
+        List<HttpRequestSpec> reads = new ArrayList<>();
+        for (String file : files) {
+            HttpFileParser.parse(collectionDir.resolve(file)).stream()
+                    .filter(request -> request.getMethod().equals("GET") && request.getExpectedStatus() == 0)
+                    .filter(request -> request.getPath().startsWith("/v1/players/paginated") && request.getPath().contains("?"))
+                    .forEach(reads::add);
+        }
+        return reads;
+    }
+
+    private HttpRequestSpec first(String file, Predicate<HttpRequestSpec> filter) {
+        return HttpFileParser.parse(collectionDir.resolve(file)).stream()
+                .filter(filter)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No matching request in " + collectionDir.resolve(file)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.playerservicejava.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Pass/fail limits per scenario, read from a properties file with keys {@code <scenario>.<metric>} or
+ * {@code *.<metric>} for every scenario; a scenario-specific key wins. Metrics:
+ * {@code p50-ms}, {@code p99-ms}, {@code p999-ms} and {@code error-rate} are upper bounds,
+ * {@code min-throughput} (requests per second) is a lower bound.
+ */
+final class Thresholds {
+
+    private final Properties limits;
+
+    Thresholds(Properties limits) {
+        this.limits = limits;
+    }
+
+    List<String> check(ScenarioResult result) {
+        List<String> violations = new ArrayList<>();
+        atMost(result, "p50-ms", result.getP50Ms(), violations);
+        atMost(result, "p99-ms", result.getP99Ms(), violations);
+        atMost(result, "p999-ms", result.getP999Ms(), violations);
+        atMost(result, "error-rate", result.getErrorRate(), violations);
+        Double minThroughput = limit(result.getScenario(), "min-throughput");
+        if (minThroughput != null && result.getThroughput() < minThroughput) {
+            violations.add(String.format("min-throughput: %.1f req/s < %s", result.getThroughput(), minThroughput));
+        }
+        return violations;
+    }
+
+    private void atMost(ScenarioResult result, String metric, double actual, List<String> violations) {
+        Double max = limit(result.getScenario(), metric);
+        if (max != null && actual > max) {
+            violations.add(String.format("%s: %.3f > %s", metric, actual, max));
+        }
+    }
+
+    private Double limit(String scenario, String metric) {
+        String value = limits.getProperty(scenario + "." + metric, limits.getProperty("*." + metric));
+        return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+    }
+}
@@ -1,7 +1,10 @@
 package com.app.playerservicejava.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -11,27 +14,81 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfiguration {
 
+    // Platform threads per pool when virtual threads are off
+    private static final int PLAYER_THREADS = 20;
+    private static final int PAGINATED_THREADS = 10;
+
+    // Run async work on virtual threads instead of the fixed platform thread pools below
+    @Value("${player-service.async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // Max in-flight tasks per executor in virtual-thread mode; further tasks are shed with 503 + Retry-After
+    @Value("${player-service.async.player-concurrency-limit:200}")
+    private int playerConcurrencyLimit;
+
+    @Value("${player-service.async.paginated-concurrency-limit:10}")
+    private int paginatedConcurrencyLimit;
+
+    // Shed load with 503 + Retry-After once this many tasks are waiting, instead of queueing them
+    @Value("${player-service.async.backpressure.player-queue-threshold:80}")
+    private int playerQueueThreshold;
+
+    @Value("${player-service.async.backpressure.paginated-queue-threshold:40}")
+    private int paginatedQueueThreshold;
+
+    @Value("${player-service.async.backpressure.max-retry-after-seconds:30}")
+    private long maxRetryAfterSeconds;
+
     @Bean(name = "playerTaskExecutor")
-    public Executor playerTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);           // Minimum threads
-        executor.setMaxPoolSize(20);           // Maximum threads
-        executor.setQueueCapacity(100);        // Queue size for tasks
-        executor.setThreadNamePrefix("Player-"); // Thread name prefix
-        executor.setKeepAliveSeconds(60);      // Keep alive time for idle threads
-        executor.initialize();
-        return executor;
+    public Executor playerTaskExecutor(MeterRegistry meterRegistry) {
+        ExecutorMonitor monitor = new ExecutorMonitor("playerTaskExecutor", playerQueueThreshold,
+                virtualThreads ? playerConcurrencyLimit : PLAYER_THREADS, virtualThreads, maxRetryAfterSeconds, meterRegistry);
+        if (virtualThreads) {
+            return virtualThreadExecutor("Player-", monitor);
+        }
+        return threadPool("Player-", PLAYER_THREADS, 100, 60, monitor);
     }
 
     @Bean(name = "paginatedTaskExecutor")
-    public Executor paginatedTaskExecutor() {
+    public Executor paginatedTaskExecutor(MeterRegistry meterRegistry) {
+        ExecutorMonitor monitor = new ExecutorMonitor("paginatedTaskExecutor", paginatedQueueThreshold,
+                virtualThreads ? paginatedConcurrencyLimit : PAGINATED_THREADS, virtualThreads, maxRetryAfterSeconds, meterRegistry);
+        if (virtualThreads) {
+            return virtualThreadExecutor("Paginated-", monitor);
+        }
+        return threadPool("Paginated-", PAGINATED_THREADS, 50, 30, monitor);
+    }
+
+    /**
+     * Fixed-size pool whose idle threads still time out. Core equals max because a ThreadPoolExecutor only
+     * starts threads beyond core once its queue is full, and the monitor sheds load before the queue
+     * fills; with a smaller core the pool would never grow.
+     */
+    static ThreadPoolTaskExecutor threadPool(String threadNamePrefix, int threads, int queueCapacity,
+                                             int keepAliveSeconds, ExecutorMonitor monitor) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);           // Smaller pool for pagination
-        executor.setMaxPoolSize(10);           // Max threads for pagination
-        executor.setQueueCapacity(50);         // Queue size
-        executor.setThreadNamePrefix("Paginated-"); // Thread name prefix
-        executor.setKeepAliveSeconds(30);      // Keep alive time
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setTaskDecorator(monitor);
+        executor.setRejectedExecutionHandler(monitor);
         executor.initialize();
         return executor;
     }
-} 
\ No newline at end of file
+
+    /**
+     * One virtual thread per task. Blocking calls (JDBC, the simulated delay) no longer pin a platform
+     * thread, so the concurrency limit - not the pool size - is what bounds in-flight work and keeps
+     * the Hikari connection pool from being flooded. The monitor enforces that limit: the executor's own
+     * concurrency limit would park the submitting request thread instead of rejecting the task.
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, ExecutorMonitor monitor) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(monitor);
+        return executor;
+    }
+}
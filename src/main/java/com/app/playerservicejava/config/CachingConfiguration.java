@@ -1,9 +1,115 @@
 package com.app.playerservicejava.config;
 
+import com.app.playerservicejava.controller.SerializedResponse;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Configuration
 @EnableCaching
 public class CachingConfiguration {
+
+    public static final String PLAYERS_CACHE = "players";
+    public static final String PLAYER_RESPONSES_CACHE = "playerResponses";
+    public static final String CHAT_MODELS_CACHE = "chatModels";
+
+    // Spec for any cache without a dedicated builder below
+    @Value("${player-service.cache.default-spec:maximumSize=1000,expireAfterWrite=10m,recordStats}")
+    private String defaultSpec;
+
+    @Value("${player-service.cache.players.maximum-size:10000}")
+    private long playersMaximumSize;
+
+    @Value("${player-service.cache.players.time-to-live:10m}")
+    private Duration playersTimeToLive;
+
+    @Value("${player-service.cache.players.refresh-after:5m}")
+    private Duration playersRefreshAfter;
+
+    // Lookups for unknown IDs are cached as NullValue, but only briefly
+    @Value("${player-service.cache.players.negative-time-to-live:30s}")
+    private Duration playersNegativeTimeToLive;
+
+    // Encoded response bodies are bounded by their size in bytes rather than by entry count
+    @Value("${player-service.cache.responses.maximum-size:64MB}")
+    private DataSize responsesMaximumSize;
+
+    @Value("${player-service.cache.responses.time-to-live:10m}")
+    private Duration responsesTimeToLive;
+
+    // Ollama's model list only changes when a model is pulled or removed
+    @Value("${player-service.chat.models-time-to-live:1m}")
+    private Duration chatModelsTimeToLive;
+
+    @Bean
+    public CacheManager cacheManager(PlayerRepository playerRepository) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(defaultSpec);
+
+        // Bounded W-TinyLFU cache; hot entries are reloaded in the background once refresh-after elapses
+        cacheManager.registerCustomCache(PLAYERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(playersMaximumSize)
+                .expireAfter(new PositiveNegativeExpiry(playersTimeToLive, playersNegativeTimeToLive))
+                .refreshAfterWrite(playersRefreshAfter)
+                .recordStats()
+                .build(key -> playerRepository.findById((String) key)
+                        .<Object>map(player -> player)
+                        .orElse(NullValue.INSTANCE)));
+
+        cacheManager.registerCustomCache(PLAYER_RESPONSES_CACHE, Caffeine.newBuilder()
+                .maximumWeight(responsesMaximumSize.toBytes())
+                .<Object, Object>weigher((key, value) -> value instanceof SerializedResponse response ? response.weight() : 1)
+                .expireAfterWrite(responsesTimeToLive)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(CHAT_MODELS_CACHE, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(chatModelsTimeToLive)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    /**
+     * Expires cached misses (NullValue) after the negative TTL and real entries after the regular TTL.
+     */
+    private static final class PositiveNegativeExpiry implements Expiry<Object, Object> {
+        private final long timeToLiveNanos;
+        private final long negativeTimeToLiveNanos;
+
+        private PositiveNegativeExpiry(Duration timeToLive, Duration negativeTimeToLive) {
+            this.timeToLiveNanos = timeToLive.toNanos();
+            this.negativeTimeToLiveNanos = negativeTimeToLive.toNanos();
+        }
+
+        private long expiryFor(Object value) {
+            return value instanceof NullValue ? negativeTimeToLiveNanos : timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return expiryFor(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expiryFor(value);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.app.playerservicejava.config;
 
 
+import com.app.playerservicejava.service.chat.ChatProperties;
 import io.github.ollama4j.OllamaAPI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,24 +9,38 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class ChatClientConfiguration {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatClientConfiguration.class);
 
-    // Once you start the Ollama docker container - Ollama server runs locally on port 11434 at http://127.0.0.1:11434/
-    private String OLLAMA_HOST = "http://127.0.0.1:11434/";
-
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
 
     @Bean
-    public OllamaAPI ollamaAPI() {
-        OllamaAPI api = new OllamaAPI(OLLAMA_HOST);
-        api.setRequestTimeoutSeconds(120);
+    public OllamaAPI ollamaAPI(ChatProperties properties) {
+        OllamaAPI api = new OllamaAPI(properties.getHost().toString());
+        api.setRequestTimeoutSeconds(Math.toIntExact(properties.getGenerationTimeout().toSeconds()));
         return api;
     }
 
+    /**
+     * Shared client for streamed generations. Ollama speaks HTTP/1.1 only, so the client is pinned to it
+     * (no h2c upgrade attempt per connection) and reuses keep-alive connections across chats; response lines
+     * are handled on virtual threads.
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient ollamaHttpClient(ChatProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
 }
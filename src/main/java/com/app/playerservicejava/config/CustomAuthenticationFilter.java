@@ -1,27 +1,93 @@
 package com.app.playerservicejava.config;
 
+import com.app.playerservicejava.security.AuthenticatedPrincipal;
+import com.app.playerservicejava.security.CredentialStore;
+import com.app.playerservicejava.security.SecurityProperties;
+import com.app.playerservicejava.security.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Component
-@Order(1)
+@Order(2)
 public class CustomAuthenticationFilter implements Filter {
 
-    private static final Map<String, String> VALID_USERS = new HashMap<>();
-    
-    static {
-        // admin:admin123 encoded in Base64
-        VALID_USERS.put("YWRtaW46YWRtaW4xMjM=", "ADMIN");
-        // user:user123 encoded in Base64  
-        VALID_USERS.put("dXNlcjp1c2VyMTIz", "USER");
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String WWW_AUTHENTICATE = "Basic realm=\"Player Service\"";
+    private static final byte[] AUTHENTICATION_REQUIRED = "Authentication required".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID_CREDENTIALS = "Invalid credentials".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOO_MANY_ATTEMPTS = "Too many authentication attempts".getBytes(StandardCharsets.UTF_8);
+
+    private final CredentialStore credentialStore;
+
+    // Full Authorization header -> principal, so a repeat caller skips the (deliberately slow) hash check
+    private final Cache<String, AuthenticatedPrincipal> verifiedCredentials;
+
+    // SHA-256 of rejected Authorization headers, so retrying a wrong password does not hash it again
+    private final Cache<String, Boolean> rejectedCredentials;
+
+    // Remote address -> bucket of password hash checks; bounds the CPU one client can spend on misses
+    private final Cache<String, TokenBucket> verificationBuckets;
+    private final Function<String, TokenBucket> newVerificationBucket;
+
+    private final Counter cachedCounter;
+    private final Counter verifiedCounter;
+    private final Counter invalidCounter;
+    private final Counter rejectedCachedCounter;
+    private final Counter throttledCounter;
+    private final Counter missingCounter;
+
+    public CustomAuthenticationFilter(CredentialStore credentialStore, SecurityProperties securityProperties,
+                                      MeterRegistry meterRegistry) {
+        this.credentialStore = credentialStore;
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getVerifiedCache().getMaximumSize())
+                .expireAfterWrite(securityProperties.getVerifiedCache().getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedCredentials, "authVerifiedCredentials");
+        this.rejectedCredentials = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getRejectedCache().getMaximumSize())
+                .expireAfterWrite(securityProperties.getRejectedCache().getTimeToLive())
+                .build();
+        SecurityProperties.VerificationLimit limit = securityProperties.getVerificationLimit();
+        this.verificationBuckets = Caffeine.newBuilder()
+                .maximumSize(limit.getMaxClients())
+                .expireAfterAccess(limit.getIdleTimeout())
+                .build();
+        this.newVerificationBucket = address -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), System.nanoTime());
+        this.cachedCounter = outcomeCounter(meterRegistry, "cached");
+        this.verifiedCounter = outcomeCounter(meterRegistry, "verified");
+        this.invalidCounter = outcomeCounter(meterRegistry, "invalid");
+        this.rejectedCachedCounter = outcomeCounter(meterRegistry, "invalid_cached");
+        this.throttledCounter = outcomeCounter(meterRegistry, "throttled");
+        this.missingCounter = outcomeCounter(meterRegistry, "missing");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("player.auth.requests")
+                .description("Authentication attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -38,29 +104,106 @@ public class CustomAuthenticationFilter implements Filter {
         }
 
         // Check for Authorization header
-        String authHeader = httpRequest.getHeader("Authorization");
+        String authHeader = httpRequest.getHeader(HttpHeaders.AUTHORIZATION);
         
-        if (authHeader == null || !authHeader.startsWith("Basic ")) {
-            httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            httpResponse.setHeader("WWW-Authenticate", "Basic realm=\"Player Service\"");
-            httpResponse.getWriter().write("Authentication required");
+        if (authHeader == null || !authHeader.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            missingCounter.increment();
+            reject(httpResponse, AUTHENTICATION_REQUIRED);
             return;
         }
 
-        // Extract and validate credentials
-        String credentials = authHeader.substring(6); // Remove "Basic " prefix
-        
-        if (!VALID_USERS.containsKey(credentials)) {
-            httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            httpResponse.setHeader("WWW-Authenticate", "Basic realm=\"Player Service\"");
-            httpResponse.getWriter().write("Invalid credentials");
-            return;
+        // Fast path: a header already verified within the cache TTL costs one lookup and no allocation
+        AuthenticatedPrincipal principal = verifiedCredentials.getIfPresent(authHeader);
+        if (principal != null) {
+            cachedCounter.increment();
+        } else {
+            // Everything up to the hash check is cheap; the hash check itself is rationed per client
+            String digest = digest(authHeader);
+            if (rejectedCredentials.getIfPresent(digest) != null) {
+                rejectedCachedCounter.increment();
+                reject(httpResponse, INVALID_CREDENTIALS);
+                return;
+            }
+            long waitNanos = verificationBuckets.get(httpRequest.getRemoteAddr(), newVerificationBucket)
+                    .tryConsume(1, System.nanoTime());
+            if (waitNanos > 0) {
+                throttledCounter.increment();
+                throttle(httpResponse, waitNanos);
+                return;
+            }
+            Optional<AuthenticatedPrincipal> verified = verify(authHeader);
+            if (verified.isEmpty()) {
+                rejectedCredentials.put(digest, Boolean.TRUE);
+                invalidCounter.increment();
+                reject(httpResponse, INVALID_CREDENTIALS);
+                return;
+            }
+            principal = verified.get();
+            verifiedCredentials.put(authHeader, principal);
+            verifiedCounter.increment();
         }
 
         // Authentication successful, continue with the request
+        httpRequest.setAttribute(AuthenticatedPrincipal.REQUEST_ATTRIBUTE, principal);
         chain.doFilter(request, response);
     }
 
+    /**
+     * The principal {@code authHeader} was verified as within the cache TTL, without verifying it now.
+     * Lets filters that run earlier key on the user without trusting an unchecked username.
+     */
+    public Optional<AuthenticatedPrincipal> cachedPrincipal(String authHeader) {
+        // asMap().get does not count as a hit or miss in the cache stats
+        return authHeader == null ? Optional.empty() : Optional.ofNullable(verifiedCredentials.asMap().get(authHeader));
+    }
+
+    private Optional<AuthenticatedPrincipal> verify(String authHeader) {
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(authHeader.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String credentials = new String(decoded, StandardCharsets.UTF_8);
+        Arrays.fill(decoded, (byte) 0);
+        int separator = credentials.indexOf(':');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        char[] password = credentials.substring(separator + 1).toCharArray();
+        try {
+            return credentialStore.verify(credentials.substring(0, separator), password);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    private static String digest(String authHeader) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(authHeader.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void throttle(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+        response.setContentType("text/plain");
+        response.setContentLength(TOO_MANY_ATTEMPTS.length);
+        response.getOutputStream().write(TOO_MANY_ATTEMPTS);
+    }
+
+    private static void reject(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, WWW_AUTHENTICATE);
+        response.setContentType("text/plain");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
         // Initialization if needed
@@ -70,4 +213,4 @@ public class CustomAuthenticationFilter implements Filter {
     public void destroy() {
         // Cleanup if needed
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instruments one async executor and applies backpressure to it.
+ *
+ * As a TaskDecorator it tracks queued/active tasks and records queue-wait vs execution time, and it
+ * rejects new work once queue-threshold tasks are already waiting. Counting at decoration time works
+ * for both the fixed pools and the virtual-thread executors. Virtual-thread executors start every task at
+ * once, so there the monitor also holds the concurrency limit: a task beyond it is rejected on submission
+ * rather than parking the submitting (request) thread until a permit frees up.
+ * As a RejectedExecutionHandler it counts hard rejections from a full pool queue.
+ */
+public class ExecutorMonitor implements TaskDecorator, RejectedExecutionHandler {
+
+    private final String executorName;
+    private final int queueThreshold;
+    private final int parallelism;
+    private final long maxRetryAfterSeconds;
+    // Running or submitted tasks allowed at once, null when the executor bounds that itself
+    private final Semaphore permits;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer queueWait;
+    private final Timer execution;
+    private final Counter rejected;
+
+    public ExecutorMonitor(String executorName, int queueThreshold, int parallelism,
+                           long maxRetryAfterSeconds, MeterRegistry meterRegistry) {
+        this(executorName, queueThreshold, parallelism, false, maxRetryAfterSeconds, meterRegistry);
+    }
+
+    /**
+     * With {@code limitConcurrency}, no more than {@code parallelism} tasks may be unfinished at once and
+     * any further one is rejected straight away.
+     */
+    public ExecutorMonitor(String executorName, int queueThreshold, int parallelism, boolean limitConcurrency,
+                           long maxRetryAfterSeconds, MeterRegistry meterRegistry) {
+        this.executorName = executorName;
+        this.queueThreshold = queueThreshold;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxRetryAfterSeconds = maxRetryAfterSeconds;
+        this.permits = limitConcurrency ? new Semaphore(this.parallelism) : null;
+
+        Gauge.builder("player.executor.queued", queued, AtomicInteger::get)
+                .tag("executor", executorName)
+                .description("Tasks submitted but not yet started")
+                .register(meterRegistry);
+        Gauge.builder("player.executor.active", active, AtomicInteger::get)
+                .tag("executor", executorName)
+                .description("Tasks currently running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("player.executor.queue.wait")
+                .tag("executor", executorName)
+                .description("Time between submission and start of execution")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.execution = Timer.builder("player.executor.execution")
+                .tag("executor", executorName)
+                .description("Task execution time")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("player.executor.rejected")
+                .tag("executor", executorName)
+                .description("Tasks rejected because the executor was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        // Compare-and-set so concurrent submitters cannot all pass the check and overshoot the threshold
+        int waiting;
+        do {
+            waiting = queued.get();
+            if (waiting >= queueThreshold) {
+                rejected.increment();
+                throw new ExecutorSaturatedException("Executor " + executorName + " saturated; "
+                        + waiting + " tasks waiting", retryAfterSeconds(waiting));
+            }
+        } while (!queued.compareAndSet(waiting, waiting + 1));
+        if (permits != null && !permits.tryAcquire()) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new ExecutorSaturatedException("Executor " + executorName + " saturated; "
+                    + parallelism + " tasks running", retryAfterSeconds(parallelism));
+        }
+        return new MonitoredTask(task, System.nanoTime());
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (task instanceof MonitoredTask monitoredTask) {
+            monitoredTask.discard();
+        }
+        rejected.increment();
+        throw new RejectedExecutionException("Executor " + executorName + " queue is full");
+    }
+
+    /**
+     * Expected time to drain the current backlog at the observed mean execution time.
+     */
+    private long retryAfterSeconds(int waiting) {
+        double meanSeconds = execution.mean(TimeUnit.SECONDS);
+        long drainSeconds = (long) Math.ceil(waiting * meanSeconds / parallelism);
+        return Math.max(ExecutorSaturatedException.DEFAULT_RETRY_AFTER_SECONDS, Math.min(maxRetryAfterSeconds, drainSeconds));
+    }
+
+    private final class MonitoredTask implements Runnable {
+        private final Runnable task;
+        private final long submittedAt;
+
+        private MonitoredTask(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                active.decrementAndGet();
+                releasePermit();
+            }
+        }
+
+        private void discard() {
+            queued.decrementAndGet();
+            releasePermit();
+        }
+
+        private void releasePermit() {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when an async executor sheds load instead of queueing it. Carries a Retry-After hint
+ * derived from the current backlog.
+ */
+public class ExecutorSaturatedException extends TaskRejectedException {
+
+    public static final long DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+    private final long retryAfterSeconds;
+
+    public ExecutorSaturatedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Retry-After for any rejection; plain rejections (e.g. a full queue) get the default. The cause chain is
+     * searched because ThreadPoolTaskExecutor wraps whatever its pool throws in a new TaskRejectedException.
+     */
+    public static long retryAfterSeconds(RejectedExecutionException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ExecutorSaturatedException saturated) {
+                return saturated.getRetryAfterSeconds();
+            }
+        }
+        return DEFAULT_RETRY_AFTER_SECONDS;
+    }
+}
@@ -0,0 +1,147 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.security.AuthenticatedPrincipal;
+import com.app.playerservicejava.security.RateLimitProperties;
+import com.app.playerservicejava.security.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-client rate limiting, run before authentication so over-limit clients never reach the password
+ * hash check. Each client gets a {@link TokenBucket}: the username when the Authorization header is one
+ * {@link CustomAuthenticationFilter} has already verified, otherwise the remote address, so made-up
+ * usernames cannot each claim a fresh bucket. A request spends the cost of its endpoint category, so a
+ * full roster dump drains the bucket far faster than a lookup by ID. Over-limit requests get 429 with
+ * Retry-After; every response carries X-RateLimit-* headers.
+ */
+@Component
+@Order(1)
+public class RateLimitFilter implements Filter {
+
+    private static final String PLAYERS_PATH = "/v1/players";
+    private static final String CHAT_PATH = "/v1/chat";
+    private static final byte[] RATE_LIMITED = "Rate limit exceeded".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimitProperties properties;
+    private final CustomAuthenticationFilter authenticationFilter;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, ClientLimiter> limiters;
+    private final Function<String, ClientLimiter> newLimiter = this::newLimiter;
+
+    public RateLimitFilter(RateLimitProperties properties, CustomAuthenticationFilter authenticationFilter,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.authenticationFilter = authenticationFilter;
+        this.meterRegistry = meterRegistry;
+        this.limiters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        if (!properties.isEnabled() || httpRequest.getRequestURI().startsWith("/h2-console")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ClientLimiter limiter = limiters.get(clientKey(httpRequest), newLimiter);
+        long now = System.nanoTime();
+        long waitNanos = limiter.bucket.tryConsume(properties.costOf(category(httpRequest)), now);
+
+        httpResponse.setHeader("X-RateLimit-Limit", String.valueOf(limiter.bucket.getCapacity()));
+        httpResponse.setHeader("X-RateLimit-Remaining", String.valueOf(limiter.bucket.availableTokens(now)));
+        httpResponse.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(limiter.bucket.nanosUntilFull(now))));
+        if (waitNanos > 0) {
+            limiter.rejected.increment();
+            httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(waitNanos)));
+            httpResponse.setContentType("text/plain");
+            httpResponse.setContentLength(RATE_LIMITED.length);
+            httpResponse.getOutputStream().write(RATE_LIMITED);
+            return;
+        }
+        limiter.allowed.increment();
+        chain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        return authenticationFilter.cachedPrincipal(request.getHeader(HttpHeaders.AUTHORIZATION))
+                .map(AuthenticatedPrincipal::getUsername)
+                .orElseGet(() -> "ip:" + request.getRemoteAddr());
+    }
+
+    private static String category(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith(CHAT_PATH)) {
+            return RateLimitProperties.CHAT;
+        }
+        if (!path.startsWith(PLAYERS_PATH)) {
+            return RateLimitProperties.DEFAULT;
+        }
+        String rest = path.substring(PLAYERS_PATH.length());
+        boolean get = "GET".equals(request.getMethod());
+        if (get && (rest.equals("/stream") || rest.equals("/async")
+                || (rest.equals("/paginated") && request.getParameter("page") == null && request.getParameter("size") == null))) {
+            return RateLimitProperties.FULL_DUMP;
+        }
+        if (rest.equals("/bulk")) {
+            return RateLimitProperties.BULK;
+        }
+        if (rest.startsWith("/batch-get")) {
+            return RateLimitProperties.BATCH_GET;
+        }
+        return RateLimitProperties.DEFAULT;
+    }
+
+    private ClientLimiter newLimiter(String clientKey) {
+        // Anonymous clients share one metric series so per-IP keys cannot blow up tag cardinality
+        String client = clientKey.startsWith("ip:") ? "anonymous" : clientKey;
+        return new ClientLimiter(
+                new TokenBucket(properties.getCapacity(), properties.getRefillPerSecond(), System.nanoTime()),
+                requestCounter(client, "allowed"),
+                requestCounter(client, "rejected"));
+    }
+
+    private Counter requestCounter(String client, String outcome) {
+        return Counter.builder("player.ratelimit.requests")
+                .description("Requests checked by the rate limiter")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static final class ClientLimiter {
+        private final TokenBucket bucket;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private ClientLimiter(TokenBucket bucket, Counter allowed, Counter rejected) {
+            this.bucket = bucket;
+            this.allowed = allowed;
+            this.rejected = rejected;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.team.TeamModelProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class TeamModelClientConfiguration {
+
+    /**
+     * Shared client for the Python team-model server. The JDK client keeps a connection pool and multiplexes
+     * over HTTP/2 when the server supports it (falling back to HTTP/1.1 for the Flask dev server); response
+     * handling runs on virtual threads, so no platform thread waits on the model.
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient teamModelHttpClient(TeamModelProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
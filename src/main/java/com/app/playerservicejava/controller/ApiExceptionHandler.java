@@ -0,0 +1,31 @@
+package com.app.playerservicejava.controller;
+
+import com.app.playerservicejava.config.ExecutorSaturatedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Translates rejections thrown while submitting async work (before any future exists) into
+ * 503 + Retry-After, so overload is visible to clients instead of surfacing as a 500.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleRejectedExecution(RejectedExecutionException e) {
+        LOGGER.warn("message=Request shed by async executor; exception={}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ExecutorSaturatedException.retryAfterSeconds(e)))
+                .body(Map.of("error", "Service is overloaded, retry later"));
+    }
+}
@@ -1,37 +1,104 @@
 package com.app.playerservicejava.controller;
 
+import com.app.playerservicejava.config.ExecutorSaturatedException;
+import com.app.playerservicejava.config.WireFormatConfiguration;
+import com.app.playerservicejava.model.BatchGetPlayersRequest;
+import com.app.playerservicejava.model.BatchGetPlayersResponse;
+import com.app.playerservicejava.model.BulkUpsertResponse;
+import com.app.playerservicejava.model.KeysetPlayersResponse;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerNameSearchResponse;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.model.PlayerSearchResponse;
+import com.app.playerservicejava.model.PlayerStatsResponse;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.model.PaginatedPlayersResponse;
+import com.app.playerservicejava.service.PlayerBulkService;
 import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.index.PlayerColumnarIndex;
+import com.app.playerservicejava.service.index.PlayerNameIndex;
+import com.app.playerservicejava.service.index.PlayerStatsAggregates;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.springframework.http.ResponseEntity.ok;
 
 @RestController
-@RequestMapping(value = "v1/players", produces = { MediaType.APPLICATION_JSON_VALUE })
+@RequestMapping(value = "v1/players", produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE,
+        WireFormatConfiguration.APPLICATION_SMILE_VALUE })
 public class PlayerController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerController.class);
+
+    // Rows are pushed to the client in batches of this size; the first row is flushed immediately
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     @Resource
     private PlayerService playerService;
 
+    @Resource
+    private PlayerBulkService playerBulkService;
+
+    @Resource
+    private PlayerColumnarIndex playerColumnarIndex;
+
+    @Resource
+    private PlayerNameIndex playerNameIndex;
+
+    @Resource
+    private PlayerStatsAggregates playerStatsAggregates;
+
+    @Resource
+    private PlayerResponseCache playerResponseCache;
+
+    @Resource
+    private ObjectMapper objectMapper;
+
     @GetMapping("/paginated")
     public ResponseEntity<?> getPlayers(
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
             @RequestParam(defaultValue = "playerId") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            // If no pagination parameters are provided, return all players
+            // If no pagination parameters are provided, return all players (JSON is served pre-encoded)
             if (page == null && size == null) {
-                Players players = playerService.getPlayers();
-                return ok(players);
+                if (!SerializedResponse.prefersJson(accept)) {
+                    return ok(playerService.getPlayers());
+                }
+                return playerResponseCache.get(PlayerResponseCache.ALL_PLAYERS_KEY, () -> Optional.of(playerService.getPlayers()))
+                        .map(response -> response.toResponseEntity(acceptEncoding))
+                        .orElseThrow();
             }
             
             // If pagination parameters are provided, return paginated results
@@ -46,6 +113,67 @@ public class PlayerController {
         }
     }
 
+    /**
+     * Streaming version of the full roster dump as newline-delimited JSON, one player per line
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlayersNdjson() {
+        return streamResponse(objectMapper.writerFor(Player.class).withRootValueSeparator("\n"), false);
+    }
+
+    /**
+     * Streaming version of the full roster dump as a chunked JSON array
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlayersJsonArray() {
+        return streamResponse(objectMapper.writerFor(Player.class), true);
+    }
+
+    // 503 + Retry-After before any byte is written when the stream slots are taken
+    private ResponseEntity<StreamingResponseBody> streamResponse(ObjectWriter writer, boolean asArray) {
+        if (!playerService.tryStartStream()) {
+            LOGGER.warn("message=Player stream refused, too many streams in flight");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ExecutorSaturatedException.DEFAULT_RETRY_AFTER_SECONDS))
+                    .build();
+        }
+        return ok(out -> {
+            try {
+                streamPlayers(writer, out, asArray);
+            } finally {
+                playerService.endStream();
+            }
+        });
+    }
+
+    private void streamPlayers(ObjectWriter writer, OutputStream out, boolean asArray) throws IOException {
+        ObjectWriter streamingWriter = writer
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long[] written = {0};
+        try (SequenceWriter sequence = asArray
+                ? streamingWriter.writeValuesAsArray(out)
+                : streamingWriter.writeValues(out)) {
+            playerService.streamPlayers(player -> {
+                try {
+                    sequence.write(player);
+                    if (++written[0] == 1 || written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                        sequence.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            LOGGER.error("message=Exception while streaming players; exception={}", e.getCause().toString());
+            throw e.getCause();
+        }
+        if (!asArray) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
     /**
      * Async version for getting all players (no pagination parameters)
      */
@@ -53,7 +181,7 @@ public class PlayerController {
     public CompletableFuture<ResponseEntity<Players>> getAllPlayersAsync() {
         return playerService.getPlayersAsync()
             .thenApply(players -> ok(players))
-            .exceptionally(ex -> new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            .exceptionally(ex -> failureResponse(ex));
     }
 
     /**
@@ -68,14 +196,169 @@ public class PlayerController {
         
         return playerService.getPlayersPaginatedAsync(page, size, sortBy, sortDirection)
             .thenApply(response -> ok(response))
-            .exceptionally(ex -> new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            .exceptionally(ex -> failureResponse(ex));
     }
 
+    /**
+     * Cursor-based pagination: pass the nextCursor of the previous response to continue.
+     * Cost is independent of page depth and no total count is computed.
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetPlayersResponse> getPlayersKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "playerId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        try {
+            return ok(playerService.getPlayersKeyset(cursor, size, sortBy, sortDirection));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Async version of keyset pagination
+     */
+    @GetMapping("/keyset/async")
+    public CompletableFuture<ResponseEntity<KeysetPlayersResponse>> getPlayersKeysetAsync(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "playerId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+
+        return playerService.getPlayersKeysetAsync(cursor, size, sortBy, sortDirection)
+            .thenApply(response -> ok(response))
+            .exceptionally(ex -> failureResponse(ex));
+    }
+
+    /**
+     * Maps a failed async call to a response: 400 for bad input, 503 + Retry-After when an executor
+     * shed the work, 500 otherwise.
+     */
+    private static <T> ResponseEntity<T> failureResponse(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof IllegalArgumentException) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (cause instanceof RejectedExecutionException rejected) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ExecutorSaturatedException.retryAfterSeconds(rejected)))
+                    .build();
+        }
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Filtered search served from the in-memory columnar index; list parameters accept several
+     * values (OR), different filters are combined with AND, and range bounds are inclusive.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PlayerSearchResponse> searchPlayers(
+            @RequestParam(required = false) List<String> birthCountry,
+            @RequestParam(required = false) List<String> birthState,
+            @RequestParam(required = false) List<String> bats,
+            @RequestParam(name = "throws", required = false) List<String> throwStats,
+            @RequestParam(required = false) Integer minBirthYear,
+            @RequestParam(required = false) Integer maxBirthYear,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate debutFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate debutTo,
+            @RequestParam(required = false) Integer minWeight,
+            @RequestParam(required = false) Integer maxWeight,
+            @RequestParam(required = false) Integer minHeight,
+            @RequestParam(required = false) Integer maxHeight,
+            @RequestParam(defaultValue = "playerId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "50") int limit) {
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria();
+        criteria.setBirthCountries(birthCountry);
+        criteria.setBirthStates(birthState);
+        criteria.setBats(bats);
+        criteria.setThrowStats(throwStats);
+        criteria.setMinBirthYear(minBirthYear);
+        criteria.setMaxBirthYear(maxBirthYear);
+        criteria.setDebutFrom(debutFrom);
+        criteria.setDebutTo(debutTo);
+        criteria.setMinWeight(minWeight);
+        criteria.setMaxWeight(maxWeight);
+        criteria.setMinHeight(minHeight);
+        criteria.setMaxHeight(maxHeight);
+        criteria.setSortBy(sortBy);
+        criteria.setSortDirection(sortDirection);
+        criteria.setLimit(limit);
+        try {
+            return ok(playerColumnarIndex.search(criteria));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Name autocomplete served from the in-memory name index: every word must match a first, last or given
+     * name, the last one as a prefix, so "aaron h" finds Hank Aaron. With {@code fuzzy} (the default) words
+     * also match names within one or two typos.
+     */
+    @GetMapping("/search/name")
+    public ResponseEntity<PlayerNameSearchResponse> searchPlayersByName(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "true") boolean fuzzy) {
+        if (q.isBlank() || limit <= 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return ok(playerNameIndex.search(q, limit, fuzzy));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Dashboard aggregates, materialized in memory and updated on every save; {@code version} and
+     * {@code updatedAt} say which change they include. The ETag is derived from the version, so a dashboard
+     * polling with If-None-Match gets 304 until a player changes. The header may list several tags, weak ones
+     * included, or be {@code *}.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<PlayerStatsResponse> getPlayerStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            PlayerStatsResponse stats = playerStatsAggregates.snapshot();
+            String tag = "stats-" + stats.getVersion() + "-" + stats.getBuiltAt().toEpochMilli();
+            String etag = "\"" + tag + "\"";
+            if (ifNoneMatch != null && ETag.parse(ifNoneMatch).stream()
+                    // Weak comparison, as RFC 9110 prescribes for If-None-Match; Spring's own check ignores * on GET
+                    .anyMatch(requested -> requested.isWildcard() || requested.tag().equals(tag))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(stats);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * JSON is served from the pre-encoded response cache and supports If-None-Match with the returned ETag;
+     * CBOR and Smile are encoded per request.
+     */
     @GetMapping("/{playerId}")
-    public ResponseEntity<Player> getPlayerById(@PathVariable String playerId) {
+    public ResponseEntity<?> getPlayerById(
+            @PathVariable String playerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            Optional<Player> player = playerService.getPlayerById(playerId);
-            return player.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+            if (!SerializedResponse.prefersJson(accept)) {
+                return playerService.getPlayerById(playerId)
+                        .<ResponseEntity<?>>map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+                        .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+            }
+            return playerResponseCache.get(PlayerResponseCache.playerKey(playerId), () -> playerService.getPlayerById(playerId))
+                    .map(response -> response.toResponseEntity(acceptEncoding))
                     .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -90,7 +373,57 @@ public class PlayerController {
         return playerService.getPlayerByIdAsync(playerId)
             .thenApply(player -> player.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
                     .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND)))
-            .exceptionally(ex -> new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            .exceptionally(ex -> failureResponse(ex));
+    }
+
+    /**
+     * Looks up many players in one call: cache hits are served directly, misses are fetched in one query.
+     * Results come back in request order with unknown IDs flagged as found=false.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetPlayersResponse> getPlayersByIds(@RequestBody BatchGetPlayersRequest request) {
+        try {
+            return ok(playerService.getPlayersByIds(request.getPlayerIds()));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Async version of getPlayersByIds
+     */
+    @PostMapping("/batch-get/async")
+    public CompletableFuture<ResponseEntity<BatchGetPlayersResponse>> getPlayersByIdsAsync(@RequestBody BatchGetPlayersRequest request) {
+        return playerService.getPlayersByIdsAsync(request.getPlayerIds())
+            .thenApply(response -> ok(response))
+            .exceptionally(ex -> failureResponse(ex));
+    }
+
+    /**
+     * Bulk upsert from a JSON array or an NDJSON stream. Rows are read incrementally and written in
+     * chunks of {@code chunkSize} as JDBC batches; the response reports the outcome of every chunk.
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkUpsertResponse> bulkUpsertPlayers(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer chunkSize) {
+        try (MappingIterator<Player> players = objectMapper.readerFor(Player.class).readValues(request.getInputStream())) {
+            BulkUpsertResponse response = playerBulkService.upsertPlayers(players, chunkSize);
+            HttpStatus status = response.getError() != null ? HttpStatus.BAD_REQUEST
+                    : response.getFailedRows() > 0 ? HttpStatus.MULTI_STATUS
+                    : HttpStatus.OK;
+            return new ResponseEntity<>(response, status);
+        } catch (JsonProcessingException e) {
+            // Malformed or empty body, rejected by the parser before the first row
+            BulkUpsertResponse response = new BulkUpsertResponse();
+            response.setError("Request body could not be read: " + e.getOriginalMessage());
+            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            LOGGER.error("message=Exception during bulk upsert; exception={}", e.toString());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
     }
 
     @PostMapping
@@ -110,7 +443,7 @@ public class PlayerController {
     public CompletableFuture<ResponseEntity<Player>> createPlayerAsync(@RequestBody Player player) {
         return playerService.savePlayerAsync(player)
             .thenApply(savedPlayer -> new ResponseEntity<>(savedPlayer, HttpStatus.CREATED))
-            .exceptionally(ex -> new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            .exceptionally(ex -> failureResponse(ex));
     }
 
     @PostMapping("/create")
@@ -130,6 +463,6 @@ public class PlayerController {
     public CompletableFuture<ResponseEntity<Player>> createPlayerSpecificAsync(@RequestBody Player player) {
         return playerService.savePlayerAsync(player)
             .thenApply(savedPlayer -> new ResponseEntity<>(savedPlayer, HttpStatus.CREATED))
-            .exceptionally(ex -> new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            .exceptionally(ex -> failureResponse(ex));
     }
 }
@@ -0,0 +1,84 @@
+package com.app.playerservicejava.controller;
+
+import com.app.playerservicejava.config.CachingConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches hot GET responses as already-encoded JSON (plus gzip) keyed by request shape, so a hit costs
+ * neither a Jackson pass nor a compression pass. Every entry touched by a {@link PlayersChangedEvent}
+ * is evicted.
+ */
+@Component
+public class PlayerResponseCache {
+
+    static final String ALL_PLAYERS_KEY = "players:all";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Bumped on every change so a response built from data read before the change is not cached after it
+    private final AtomicLong generation = new AtomicLong();
+
+    static String playerKey(String playerId) {
+        return "player:" + playerId;
+    }
+
+    /**
+     * Returns the cached encoding for {@code key}, or loads, encodes and caches it. An empty result from
+     * the loader (e.g. unknown player) is not cached.
+     */
+    public Optional<SerializedResponse> get(String key, Supplier<Optional<?>> loader) {
+        Cache cache = responsesCache();
+        SerializedResponse cached = cache.get(key, SerializedResponse.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long readGeneration = generation.get();
+        Optional<?> value = loader.get();
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        SerializedResponse response;
+        try {
+            response = SerializedResponse.of(objectMapper.writeValueAsBytes(value.get()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        cache.put(key, response);
+        if (generation.get() != readGeneration) {
+            // Players changed while this response was being built
+            cache.evict(key);
+        }
+        return Optional.of(response);
+    }
+
+    @EventListener
+    public void onPlayersChanged(PlayersChangedEvent event) {
+        generation.incrementAndGet();
+        Cache cache = responsesCache();
+        cache.evict(ALL_PLAYERS_KEY);
+        for (Player player : event.getPlayers()) {
+            cache.evict(playerKey(player.getPlayerId()));
+        }
+    }
+
+    private Cache responsesCache() {
+        return cacheManager.getCache(CachingConfiguration.PLAYER_RESPONSES_CACHE);
+    }
+}
@@ -0,0 +1,147 @@
+package com.app.playerservicejava.controller;
+
+import com.app.playerservicejava.config.WireFormatConfiguration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON response body encoded once, with its gzip variant and a strong ETag per variant.
+ */
+public final class SerializedResponse {
+
+    // Same threshold as server.compression's default; smaller bodies are not worth a Content-Encoding
+    private static final int GZIP_MIN_BYTES = 2048;
+
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+
+    private SerializedResponse(byte[] body, byte[] gzipBody, String etag) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = etag;
+    }
+
+    public static SerializedResponse of(byte[] json) {
+        byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+        return new SerializedResponse(json, gzip, "\"" + digest(json) + "\"");
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Bytes held by this entry, used as its cache weight.
+     */
+    public int weight() {
+        return body.length + (gzipBody == null ? 0 : gzipBody.length);
+    }
+
+    /**
+     * Builds the 200 response, choosing the gzip variant when the client accepts it. Each variant has its own
+     * ETag, and Spring answers a matching If-None-Match with 304 before any body is written.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipBody != null && acceptsGzip(acceptEncoding)) {
+            return builder.eTag(etag.substring(0, etag.length() - 1) + "-gzip\"")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzipBody);
+        }
+        return builder.eTag(etag).body(body);
+    }
+
+    /**
+     * True unless the Accept header ranks CBOR or Smile above JSON; a missing header or a wildcard means JSON.
+     */
+    static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+        double json = quality(acceptable, MediaType.APPLICATION_JSON);
+        double binary = Math.max(quality(acceptable, MediaType.APPLICATION_CBOR),
+                quality(acceptable, MediaType.parseMediaType(WireFormatConfiguration.APPLICATION_SMILE_VALUE)));
+        return json > 0 && json >= binary;
+    }
+
+    // Highest q of the acceptable types that include the given type, with exact matches taking precedence
+    private static double quality(List<MediaType> acceptable, MediaType type) {
+        double best = 0;
+        boolean exact = false;
+        for (MediaType candidate : acceptable) {
+            if (candidate.equalsTypeAndSubtype(type)) {
+                best = exact ? Math.max(best, candidate.getQualityValue()) : candidate.getQualityValue();
+                exact = true;
+            } else if (!exact && candidate.includes(type)) {
+                best = Math.max(best, candidate.getQualityValue());
+            }
+        }
+        return best;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!"gzip".equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,22 +1,43 @@
 package com.app.playerservicejava.controller.chat;
 
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.app.playerservicejava.model.PlayerChatRequest;
+import com.app.playerservicejava.model.PlayerChatResponse;
 import com.app.playerservicejava.service.chat.ChatClientService;
+import com.app.playerservicejava.service.chat.ChatException;
+import com.app.playerservicejava.service.chat.ChatProperties;
+import com.app.playerservicejava.service.chat.ChatResponseCache;
+import com.app.playerservicejava.service.chat.PlayerChatService;
 import io.github.ollama4j.exceptions.OllamaBaseException;
 import io.github.ollama4j.models.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Controller
 @RequestMapping(value = "v1/chat", produces = { MediaType.APPLICATION_JSON_VALUE })
@@ -24,12 +45,124 @@ public class ChatController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatController.class);
 
+    // Lets the service's own generation timeout fire first and report it on the stream or in the response
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 5_000;
+
     @Autowired
     private ChatClientService chatClientService;
 
+    @Autowired
+    private ChatResponseCache chatResponseCache;
+
+    @Autowired
+    private PlayerChatService playerChatService;
+
+    @Autowired
+    private ChatProperties chatProperties;
+
+    /**
+     * Whole generation as one body, answered from {@link ChatResponseCache} when possible. The request thread
+     * is released while Ollama generates.
+     */
     @PostMapping
-    public @ResponseBody String chat() throws OllamaBaseException, IOException, InterruptedException {
-        return chatClientService.chat();
+    public @ResponseBody DeferredResult<ResponseEntity<String>> chat(@RequestBody(required = false) ChatRequest request) {
+        try {
+            CompletableFuture<ChatCompletion> generation = chatResponseCache.generate(request);
+            return withGenerationTimeout(generation, generation
+                    .thenApply(completion -> ResponseEntity.ok(completion.getResponse()))
+                    .exceptionally(ChatController::failure));
+        } catch (IllegalArgumentException e) {
+            return withGenerationTimeout(CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage())));
+        } catch (ChatException e) {
+            return withGenerationTimeout(CompletableFuture.completedFuture(rejected(e)));
+        }
+    }
+
+    /**
+     * Server-sent events: one {@code token} event per token as Ollama produces it, then a {@code done} event
+     * with the timings, or an {@code error} event. Closing the connection stops the generation. An exact
+     * cache hit is sent as a single token; a completed stream is cached for later requests.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestBody(required = false) ChatRequest request) {
+        SseEmitter emitter = new SseEmitter(chatProperties.getGenerationTimeout().toMillis() + ASYNC_TIMEOUT_MARGIN_MS);
+        ChatRequest normalized;
+        try {
+            normalized = chatClientService.normalize(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ChatCompletion> cached = chatResponseCache.lookup(normalized);
+        if (cached.isPresent()) {
+            ChatCompletion hit = cached.get();
+            try {
+                send(emitter, "token", Map.of("response", hit.getResponse()));
+                hit.setResponse(null);
+                send(emitter, "done", hit);
+                emitter.complete();
+            } catch (UncheckedIOException e) {
+                emitter.completeWithError(e);
+            }
+            return streamResponse(emitter);
+        }
+
+        StringBuilder streamed = new StringBuilder();
+        CompletableFuture<ChatCompletion> generation;
+        try {
+            generation = chatClientService.generate(normalized, token -> {
+                streamed.append(token);
+                send(emitter, "token", Map.of("response", token));
+            });
+        } catch (ChatException e) {
+            return rejected(e);
+        }
+        emitter.onTimeout(() -> generation.cancel(true));
+        emitter.onError(error -> generation.cancel(true));
+        emitter.onCompletion(() -> generation.cancel(true));
+        generation.whenComplete((completion, error) -> {
+            if (error == null) {
+                chatResponseCache.store(normalized, new ChatCompletion(completion.getModel(), streamed.toString(),
+                        completion.getTokens(), completion.getFirstTokenMs(), completion.getTotalMs(), false));
+                try {
+                    send(emitter, "done", completion);
+                    emitter.complete();
+                } catch (UncheckedIOException e) {
+                    emitter.completeWithError(e);
+                }
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                // Client disconnected or the emitter timed out; nobody is listening
+                emitter.complete();
+                return;
+            }
+            ResponseEntity<String> failure = failure(cause);
+            try {
+                send(emitter, "error", Map.of("status", failure.getStatusCode().value(), "error", String.valueOf(failure.getBody())));
+                emitter.complete();
+            } catch (UncheckedIOException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return streamResponse(emitter);
+    }
+
+    /**
+     * Question about players, answered from the records the in-memory indexes retrieve for it.
+     */
+    @PostMapping("/players")
+    public @ResponseBody DeferredResult<ResponseEntity<PlayerChatResponse>> players(@RequestBody PlayerChatRequest request) {
+        try {
+            CompletableFuture<PlayerChatResponse> answer = playerChatService.answer(request);
+            return withGenerationTimeout(answer, answer
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(ex -> ResponseEntity.status(failure(ex).getStatusCode()).build()));
+        } catch (IllegalArgumentException e) {
+            return withGenerationTimeout(CompletableFuture.completedFuture(ResponseEntity.badRequest().build()));
+        } catch (ChatException e) {
+            return withGenerationTimeout(CompletableFuture.completedFuture(rejected(e)));
+        }
     }
 
     @GetMapping("/list-models")
@@ -37,4 +170,64 @@ public class ChatController {
         List<Model> models = chatClientService.listModels();
         return ResponseEntity.ok(models);
     }
+
+    /**
+     * Hands {@code response} to MVC with the generation timeout plus a margin instead of the servlet
+     * container's default async timeout (30s), which would answer 503 while the generation still held its
+     * permit. The service's own timeout normally fires first; if this one does, or the client goes away,
+     * {@code generation} is cancelled, which stops the Ollama exchange and frees its permit (a shared
+     * generation once its last caller is gone). A timeout answers 504.
+     */
+    private <T> DeferredResult<ResponseEntity<T>> withGenerationTimeout(CompletableFuture<ResponseEntity<T>> response) {
+        return withGenerationTimeout(response, response);
+    }
+
+    private <T> DeferredResult<ResponseEntity<T>> withGenerationTimeout(CompletableFuture<?> generation,
+                                                                        CompletableFuture<ResponseEntity<T>> response) {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(
+                chatProperties.getGenerationTimeout().toMillis() + ASYNC_TIMEOUT_MARGIN_MS,
+                () -> ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build());
+        // Cancelling response, a stage derived from generation, would not reach the exchange
+        result.onTimeout(() -> generation.cancel(true));
+        result.onError(error -> generation.cancel(true));
+        response.whenComplete((entity, error) -> {
+            if (entity != null) {
+                result.setResult(entity);
+            }
+        });
+        return result;
+    }
+
+    private static ResponseEntity<SseEmitter> streamResponse(SseEmitter emitter) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                // Keep reverse proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    private static void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> ResponseEntity<T> rejected(ChatException e) {
+        LOGGER.warn("message=Chat generation refused; error={}", e.getMessage());
+        return ResponseEntity.status(e.getStatus()).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    private static ResponseEntity<String> failure(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ChatException e) {
+            return ResponseEntity.status(e.getStatus()).body(e.getMessage());
+        }
+        if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body("Generation timed out");
+        }
+        LOGGER.error("message=Chat generation failed; exception={}", cause.toString());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Generation failed");
+    }
 }
@@ -0,0 +1,95 @@
+package com.app.playerservicejava.controller.team;
+
+import com.app.playerservicejava.model.TeamFeedbackRequest;
+import com.app.playerservicejava.model.TeamFeedbackResponse;
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import com.app.playerservicejava.service.team.TeamGeneratorService;
+import com.app.playerservicejava.service.team.TeamModelClient;
+import com.app.playerservicejava.service.team.TeamModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Team generation with the request/response shapes of the team-model server. With
+ * {@code player-service.team.engine=native} (the default) teams are computed in-process; with {@code remote}
+ * the Python server is called through {@link TeamModelClient} without holding the request thread.
+ */
+@RestController
+@RequestMapping(value = "v1/team", produces = { MediaType.APPLICATION_JSON_VALUE })
+public class TeamController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeamController.class);
+
+    @Autowired
+    private TeamGeneratorService teamGeneratorService;
+
+    @Autowired
+    private TeamModelClient teamModelClient;
+
+    @Value("${player-service.team.engine:native}")
+    private String engine;
+
+    @PostMapping("/generate")
+    public CompletableFuture<ResponseEntity<TeamGenerateResponse>> generate(@RequestBody TeamGenerateRequest request) {
+        if (isRemote()) {
+            return teamModelClient.generate(request)
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(TeamController::remoteFailure);
+        }
+        try {
+            return CompletableFuture.completedFuture(teamGeneratorService.generate(request)
+                    .map(ResponseEntity::ok)
+                    .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND)));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    @PostMapping("/feedback")
+    public CompletableFuture<ResponseEntity<TeamFeedbackResponse>> feedback(@RequestBody TeamFeedbackRequest request) {
+        if (isRemote()) {
+            return teamModelClient.feedback(request)
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(TeamController::remoteFailure);
+        }
+        try {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(teamGeneratorService.feedback(request)));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    private boolean isRemote() {
+        return "remote".equalsIgnoreCase(engine);
+    }
+
+    private static <T> ResponseEntity<T> remoteFailure(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TeamModelException e) {
+            if (e.getStatus().is5xxServerError()) {
+                LOGGER.warn("message=Team-model call failed; status={}, error={}", e.getStatus().value(), e.getMessage());
+            }
+            return new ResponseEntity<>(e.getStatus());
+        }
+        if (cause instanceof TimeoutException) {
+            LOGGER.warn("message=Team-model call timed out");
+            return new ResponseEntity<>(HttpStatus.GATEWAY_TIMEOUT);
+        }
+        LOGGER.error("message=Team-model call failed; exception={}", cause.toString());
+        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,17 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetPlayersRequest {
+
+    @JsonProperty("playerIds")
+    private List<String> playerIds;
+}
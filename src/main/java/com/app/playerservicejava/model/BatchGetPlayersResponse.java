@@ -0,0 +1,27 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetPlayersResponse {
+
+    // One entry per requested ID, in request order
+    @JsonProperty("results")
+    private List<PlayerLookupResult> results;
+
+    @JsonProperty("requested")
+    private int requested;
+
+    @JsonProperty("found")
+    private int found;
+
+    @JsonProperty("missingIds")
+    private List<String> missingIds;
+}
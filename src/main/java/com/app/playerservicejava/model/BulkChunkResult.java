@@ -0,0 +1,35 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkChunkResult {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("rows")
+    private int rows;
+
+    @JsonProperty("written")
+    private int written;
+
+    @JsonProperty("rejected")
+    private int rejected;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("error")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
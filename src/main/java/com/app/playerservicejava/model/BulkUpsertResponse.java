@@ -0,0 +1,44 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpsertResponse {
+
+    @JsonProperty("totalRows")
+    private long totalRows;
+
+    @JsonProperty("writtenRows")
+    private long writtenRows;
+
+    // Rows skipped before writing, e.g. missing playerId
+    @JsonProperty("rejectedRows")
+    private long rejectedRows;
+
+    // Rows in chunks whose batch failed and was rolled back
+    @JsonProperty("failedRows")
+    private long failedRows;
+
+    @JsonProperty("chunkSize")
+    private int chunkSize;
+
+    @JsonProperty("elapsedMillis")
+    private long elapsedMillis;
+
+    @JsonProperty("chunks")
+    private List<BulkChunkResult> chunks = new ArrayList<>();
+
+    // Set when the request body could not be read to the end; earlier chunks stay committed
+    @JsonProperty("error")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.app.playerservicejava.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one generation. {@code response} is only filled when the tokens were not streamed to the caller.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatCompletion {
+
+    private String model;
+
+    private String response;
+
+    private int tokens;
+
+    private long firstTokenMs;
+
+    private long totalMs;
+
+    // Served from the chat response cache; the timings are those of the original generation
+    private boolean cached;
+}
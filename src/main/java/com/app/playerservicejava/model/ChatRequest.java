@@ -0,0 +1,23 @@
+package com.app.playerservicejava.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Body of v1/chat and v1/chat/stream. A missing model or prompt falls back to player-service.chat defaults.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRequest {
+
+    private String model;
+
+    private String prompt;
+
+    // Passed through to Ollama as-is (temperature, num_predict, ...)
+    private Map<String, Object> options;
+}
@@ -0,0 +1,32 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPlayersResponse {
+
+    @JsonProperty("players")
+    private List<Player> players;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("sortBy")
+    private String sortBy;
+
+    @JsonProperty("sortDirection")
+    private String sortDirection;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
+
 @Entity
 @Getter
 @Setter
@@ -15,13 +17,13 @@ public class Player {
     private String playerId;
 
     @Column(name = "BIRTHYEAR")
-    private String birthYear;
+    private Integer birthYear;
 
     @Column(name = "BIRTHMONTH")
-    private String birthMonth;
+    private Integer birthMonth;
 
     @Column(name = "BIRTHDAY")
-    private String birthDay;
+    private Integer birthDay;
 
     @Column(name = "BIRTHCOUNTRY")
     private String birthCountry;
@@ -33,13 +35,13 @@ public class Player {
     private String birthCity;
 
     @Column(name = "DEATHYEAR")
-    private String deathYear;
+    private Integer deathYear;
 
     @Column(name = "DEATHMONTH")
-    private String deathMonth;
+    private Integer deathMonth;
 
     @Column(name = "DEATHDAY")
-    private String deathDay;
+    private Integer deathDay;
 
     @Column(name = "DEATHCOUNTRY")
     private String deathCountry;
@@ -60,10 +62,10 @@ public class Player {
     private String givenName;
 
     @Column(name = "WEIGHT")
-    private String weight;
+    private Integer weight;
 
     @Column(name = "HEIGHT")
-    private String height;
+    private Integer height;
 
     @Column(name = "BATS")
     private String bats;
@@ -72,10 +74,10 @@ public class Player {
     private String throwStats;
 
     @Column(name = "DEBUT")
-    private String debut;
+    private LocalDate debut;
 
     @Column(name = "FINALGAME")
-    private String finalGame;
+    private LocalDate finalGame;
 
     @Column(name = "RETROID")
     private String retroId;
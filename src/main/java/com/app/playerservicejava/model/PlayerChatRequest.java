@@ -0,0 +1,25 @@
+package com.app.playerservicejava.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Body of v1/chat/players: a question about players, optionally narrowed by the same filters as
+ * v1/players/search (its sort and limit are ignored).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChatRequest {
+
+    private String question;
+
+    private String model;
+
+    private Map<String, Object> options;
+
+    private PlayerSearchCriteria filters;
+}
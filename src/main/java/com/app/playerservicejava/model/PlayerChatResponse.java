@@ -0,0 +1,31 @@
+package com.app.playerservicejava.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerChatResponse {
+
+    private String answer;
+
+    private String model;
+
+    // Players whose records were put in the prompt, most relevant first
+    private List<String> playerIds;
+
+    // Retrieved players left out because the context token budget was spent
+    private int droppedPlayers;
+
+    private int contextTokens;
+
+    private long retrievalMicros;
+
+    private long generationMs;
+
+    private boolean cached;
+}
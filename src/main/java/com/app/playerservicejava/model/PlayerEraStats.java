@@ -0,0 +1,22 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerEraStats {
+
+    @JsonProperty("players")
+    private long players;
+
+    // Null when no player of the era has a height (weight) recorded
+    @JsonProperty("averageHeight")
+    private Double averageHeight;
+
+    @JsonProperty("averageWeight")
+    private Double averageWeight;
+}
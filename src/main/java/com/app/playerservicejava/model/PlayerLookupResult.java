@@ -0,0 +1,23 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerLookupResult {
+
+    @JsonProperty("playerId")
+    private String playerId;
+
+    @JsonProperty("found")
+    private boolean found;
+
+    @JsonProperty("player")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Player player;
+}
@@ -0,0 +1,32 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerNameMatch {
+
+    @JsonProperty("playerId")
+    private String playerId;
+
+    @JsonProperty("firstName")
+    private String firstName;
+
+    @JsonProperty("lastName")
+    private String lastName;
+
+    @JsonProperty("givenName")
+    private String givenName;
+
+    // Summed over the query words; only comparable within one response
+    @JsonProperty("score")
+    private float score;
+
+    // True when at least one query word only matched within an edit distance
+    @JsonProperty("fuzzy")
+    private boolean fuzzy;
+}
@@ -0,0 +1,24 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerNameSearchResponse {
+
+    @JsonProperty("query")
+    private String query;
+
+    // Best match first
+    @JsonProperty("matches")
+    private List<PlayerNameMatch> matches;
+
+    @JsonProperty("tookMicros")
+    private long tookMicros;
+}
@@ -0,0 +1,46 @@
+package com.app.playerservicejava.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters for v1/players/search. Values within a list are OR-ed, different filters are AND-ed,
+ * and range bounds are inclusive. Null or empty means "no filter".
+ */
+@Data
+@NoArgsConstructor
+public class PlayerSearchCriteria {
+
+    private List<String> birthCountries;
+
+    private List<String> birthStates;
+
+    private List<String> bats;
+
+    private List<String> throwStats;
+
+    private Integer minBirthYear;
+
+    private Integer maxBirthYear;
+
+    private LocalDate debutFrom;
+
+    private LocalDate debutTo;
+
+    private Integer minWeight;
+
+    private Integer maxWeight;
+
+    private Integer minHeight;
+
+    private Integer maxHeight;
+
+    private String sortBy = "playerId";
+
+    private String sortDirection = "asc";
+
+    private int limit = 50;
+}
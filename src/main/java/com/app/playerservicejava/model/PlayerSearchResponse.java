@@ -0,0 +1,33 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchResponse {
+
+    @JsonProperty("players")
+    private List<Player> players;
+
+    // Number of players matching the filters, before the limit is applied
+    @JsonProperty("totalMatches")
+    private int totalMatches;
+
+    @JsonProperty("limit")
+    private int limit;
+
+    @JsonProperty("sortBy")
+    private String sortBy;
+
+    @JsonProperty("sortDirection")
+    private String sortDirection;
+
+    @JsonProperty("tookMicros")
+    private long tookMicros;
+}
@@ -0,0 +1,48 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStatsResponse {
+
+    // Incremented by every change applied after the startup build
+    @JsonProperty("version")
+    private long version;
+
+    // When the aggregates were built from the whole table
+    @JsonProperty("builtAt")
+    private Instant builtAt;
+
+    // When the last player change was applied, builtAt if none was
+    @JsonProperty("updatedAt")
+    private Instant updatedAt;
+
+    @JsonProperty("players")
+    private long players;
+
+    @JsonProperty("birthCountries")
+    private Map<String, Long> birthCountries;
+
+    @JsonProperty("birthStates")
+    private Map<String, Long> birthStates;
+
+    // Keyed by decade of the debut, "1950s"
+    @JsonProperty("debutDecades")
+    private Map<String, Long> debutDecades;
+
+    // Keyed by bats/throws, "R/L"
+    @JsonProperty("handedness")
+    private Map<String, Long> handedness;
+
+    // Keyed by debut decade like debutDecades
+    @JsonProperty("eras")
+    private Map<String, PlayerEraStats> eras;
+}
@@ -0,0 +1,31 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Raw player features used as a team seed when no seed player is given. Missing values count as average.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFeatures {
+
+    @JsonProperty("birth_year")
+    private Double birthYear;
+
+    @JsonProperty("height")
+    private Double height;
+
+    @JsonProperty("weight")
+    private Double weight;
+
+    // "L", "R" or anything else for neither
+    @JsonProperty("bats")
+    private String bats;
+
+    @JsonProperty("throws")
+    private String throwStats;
+}
@@ -0,0 +1,28 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of v1/team/feedback. A feedback of -1 removes the member from future teams for the seed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFeedbackRequest {
+
+    @JsonProperty("seed_id")
+    private String seedId;
+
+    @JsonProperty("member_id")
+    private String memberId;
+
+    // -1 or 1
+    @JsonProperty("feedback")
+    private int feedback;
+
+    @JsonProperty("prediction_id")
+    private String predictionId;
+}
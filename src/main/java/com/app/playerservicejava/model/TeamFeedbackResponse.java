@@ -0,0 +1,24 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFeedbackResponse {
+
+    @JsonProperty("seed_id")
+    private String seedId;
+
+    @JsonProperty("prediction_id")
+    private String predictionId;
+
+    @JsonProperty("member_id")
+    private String memberId;
+
+    @JsonProperty("accepted")
+    private boolean accepted;
+}
@@ -0,0 +1,25 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of v1/team/generate; same shape as the team-model server's /team/generate. Either
+ * {@code seed_id} or {@code features} is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamGenerateRequest {
+
+    @JsonProperty("seed_id")
+    private String seedId;
+
+    @JsonProperty("features")
+    private TeamFeatures features;
+
+    @JsonProperty("team_size")
+    private int teamSize;
+}
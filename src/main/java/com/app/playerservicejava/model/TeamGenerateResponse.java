@@ -0,0 +1,27 @@
+package com.app.playerservicejava.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamGenerateResponse {
+
+    @JsonProperty("seed_id")
+    private String seedId;
+
+    @JsonProperty("prediction_id")
+    private String predictionId;
+
+    @JsonProperty("team_size")
+    private int teamSize;
+
+    // Nearest players first; a seed player is its own nearest neighbour
+    @JsonProperty("member_ids")
+    private List<String> memberIds;
+}
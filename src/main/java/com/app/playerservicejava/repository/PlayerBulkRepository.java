@@ -0,0 +1,86 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC batch writes for PLAYERS. Uses H2's MERGE INTO ... KEY so an upsert is a single statement
+ * per row, without the SELECT that JPA's merge() issues for entities with an assigned id.
+ */
+@Repository
+public class PlayerBulkRepository {
+
+    /**
+     * PLAYERS columns in the order every row array passed to this repository uses.
+     */
+    public static final List<String> COLUMNS = List.of(
+            "PLAYERID", "BIRTHYEAR", "BIRTHMONTH", "BIRTHDAY", "BIRTHCOUNTRY", "BIRTHSTATE", "BIRTHCITY",
+            "DEATHYEAR", "DEATHMONTH", "DEATHDAY", "DEATHCOUNTRY", "DEATHSTATE", "DEATHCITY",
+            "NAMEFIRST", "NAMELAST", "NAMEGIVEN", "WEIGHT", "HEIGHT", "BATS", "THROWS",
+            "DEBUT", "FINALGAME", "RETROID", "BBREFID");
+
+    /**
+     * JDBC types of {@link #COLUMNS}; declared up front so null parameters never need a metadata lookup.
+     */
+    public static final int[] COLUMN_TYPES = {
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.VARCHAR,
+            Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR};
+
+    private static final String PLACEHOLDERS = String.join(", ", Collections.nCopies(COLUMNS.size(), "?"));
+
+    private static final String INSERT_SQL = "INSERT INTO PLAYERS (" + String.join(", ", COLUMNS) + ") "
+            + "VALUES (" + PLACEHOLDERS + ")";
+
+    private static final String UPSERT_SQL = "MERGE INTO PLAYERS (" + String.join(", ", COLUMNS) + ") KEY (PLAYERID) "
+            + "VALUES (" + PLACEHOLDERS + ")";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Upserts all players as one JDBC batch. Must run inside the caller's transaction to be atomic.
+     */
+    public int upsertAll(List<Player> players) {
+        List<Object[]> rows = new ArrayList<>(players.size());
+        for (Player player : players) {
+            rows.add(toRow(player));
+        }
+        return upsertRows(rows);
+    }
+
+    /**
+     * Upserts rows already laid out in {@link #COLUMNS} order as one JDBC batch.
+     */
+    public int upsertRows(List<Object[]> rows) {
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, rows, COLUMN_TYPES).length;
+    }
+
+    /**
+     * Plain INSERT of rows in {@link #COLUMNS} order; cheaper than MERGE when the table is known to be empty.
+     */
+    public int insertRows(List<Object[]> rows) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, rows, COLUMN_TYPES).length;
+    }
+
+    // Column order must match COLUMNS
+    private static Object[] toRow(Player player) {
+        return new Object[] {
+                player.getPlayerId(), player.getBirthYear(), player.getBirthMonth(), player.getBirthDay(),
+                player.getBirthCountry(), player.getBirthState(), player.getBirthCity(),
+                player.getDeathYear(), player.getDeathMonth(), player.getDeathDay(),
+                player.getDeathCountry(), player.getDeathState(), player.getDeathCity(),
+                player.getFirstName(), player.getLastName(), player.getGivenName(),
+                player.getWeight(), player.getHeight(), player.getBats(), player.getThrowStats(),
+                player.getDebut(), player.getFinalGame(), player.getRetroId(), player.getBbrefId()
+        };
+    }
+}
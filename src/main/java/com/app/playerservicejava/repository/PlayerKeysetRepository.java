@@ -0,0 +1,21 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Seek-based (keyset) paging over PLAYERS. Unlike offset paging, no rows are skipped
+ * and no count query is issued, so every page costs the same regardless of depth.
+ */
+public interface PlayerKeysetRepository {
+
+    /**
+     * Returns up to {@code size} players ordered by {@code sortBy} then {@code playerId},
+     * starting strictly after the given position. A null {@code afterPlayerId} starts from the beginning;
+     * {@code afterSortKey} is the last sort value, of the column's Java type, and may be null for NULL columns.
+     * {@code sortBy} must already be a validated Player column.
+     */
+    Slice<Player> findSliceAfter(String sortBy, Sort.Direction direction,
+                                 Comparable<?> afterSortKey, String afterPlayerId, int size);
+}
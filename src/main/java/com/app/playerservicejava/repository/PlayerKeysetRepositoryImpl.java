@@ -0,0 +1,98 @@
+package com.app.playerservicejava.repository;
+
+import com.app.playerservicejava.model.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PlayerKeysetRepositoryImpl implements PlayerKeysetRepository {
+
+    private static final String PLAYER_ID = "playerId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Slice<Player> findSliceAfter(String sortBy, Sort.Direction direction,
+                                        Comparable<?> afterSortKey, String afterPlayerId, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Player> query = cb.createQuery(Player.class);
+        Root<Player> root = query.from(Player.class);
+        Path<String> playerId = root.get(PLAYER_ID);
+        Path<Comparable> sortKey = root.get(sortBy);
+        boolean ascending = direction.isAscending();
+        boolean sortById = PLAYER_ID.equals(sortBy);
+
+        if (afterPlayerId != null) {
+            Predicate idAfter = idAfter(cb, playerId, afterPlayerId, ascending);
+            query.where(sortById ? idAfter : seekPredicate(cb, sortKey, afterSortKey, idAfter, ascending));
+        }
+
+        if (sortById) {
+            query.orderBy(ascending ? cb.asc(playerId) : cb.desc(playerId));
+        } else {
+            query.orderBy(ascending ? cb.asc(sortKey) : cb.desc(sortKey),
+                    ascending ? cb.asc(playerId) : cb.desc(playerId));
+        }
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Player> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        if (!sortById && !ascending && afterSortKey != null && rows.size() <= size) {
+            // Descending, NULL keys come after every value; the seek leaves them out so it stays an index range
+            rows = new ArrayList<>(rows);
+            rows.addAll(findNullKeys(sortBy, size + 1 - rows.size()));
+        }
+        boolean hasNext = rows.size() > size;
+        List<Player> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    // First rows of the NULL group in descending order; later pages of it seek with a NULL afterKey
+    private List<Player> findNullKeys(String sortBy, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Player> query = cb.createQuery(Player.class);
+        Root<Player> root = query.from(Player.class);
+        query.where(cb.isNull(root.get(sortBy)))
+                .orderBy(cb.desc(root.get(PLAYER_ID)));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Predicate idAfter(CriteriaBuilder cb, Path<String> playerId, String afterPlayerId, boolean ascending) {
+        return ascending ? cb.greaterThan(playerId, afterPlayerId) : cb.lessThan(playerId, afterPlayerId);
+    }
+
+    /**
+     * Builds "(key, playerId) comes after (afterKey, afterPlayerId)". H2 sorts NULL lowest,
+     * so NULL keys come first when ascending and last when descending - same order as the offset API.
+     * The redundant "key >= afterKey" (or "<=") bound is what lets H2 start the scan at the cursor
+     * in the (key, PLAYERID) index; it cannot derive a range from the OR alone and reads every
+     * row before the cursor, so deep pages would cost as much as offset ones.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Path<Comparable> key, Comparable afterKey,
+                                    Predicate idAfter, boolean ascending) {
+        if (afterKey == null) {
+            Predicate sameNullGroup = cb.and(cb.isNull(key), idAfter);
+            return ascending ? cb.or(sameNullGroup, cb.isNotNull(key)) : sameNullGroup;
+        }
+        Predicate keyFrom = ascending ? cb.greaterThanOrEqualTo(key, afterKey) : cb.lessThanOrEqualTo(key, afterKey);
+        Predicate keyAfter = ascending ? cb.greaterThan(key, afterKey) : cb.lessThan(key, afterKey);
+        return cb.and(keyFrom, cb.or(keyAfter, cb.and(cb.equal(key, afterKey), idAfter)));
+    }
+}
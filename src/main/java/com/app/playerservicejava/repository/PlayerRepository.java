@@ -1,7 +1,23 @@
 package com.app.playerservicejava.repository;
 import com.app.playerservicejava.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface PlayerRepository extends JpaRepository<Player, String> {
+import java.util.stream.Stream;
 
+public interface PlayerRepository extends JpaRepository<Player, String>, PlayerKeysetRepository {
+
+    /**
+     * Streams every player off a JDBC cursor instead of materializing the whole table.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Player p order by p.playerId")
+    Stream<Player> streamAll();
 }
@@ -0,0 +1,31 @@
+package com.app.playerservicejava.security;
+
+/**
+ * Caller identity established by the authentication filter and exposed to the rest of the request
+ * as a request attribute.
+ */
+public final class AuthenticatedPrincipal {
+
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedPrincipal.class.getName();
+
+    private final String username;
+    private final String role;
+
+    public AuthenticatedPrincipal(String username, String role) {
+        this.username = username;
+        this.role = role;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    @Override
+    public String toString() {
+        return username + " (" + role + ")";
+    }
+}
@@ -0,0 +1,15 @@
+package com.app.playerservicejava.security;
+
+import java.util.Optional;
+
+/**
+ * Source of truth for API credentials. Implementations verify a username/password pair against
+ * stored (hashed) secrets; verification is expected to be deliberately slow, callers cache the result.
+ */
+public interface CredentialStore {
+
+    /**
+     * Returns the principal for a valid username/password pair, or empty when either is wrong.
+     */
+    Optional<AuthenticatedPrincipal> verify(String username, char[] password);
+}
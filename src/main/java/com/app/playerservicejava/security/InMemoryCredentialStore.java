@@ -0,0 +1,32 @@
+package com.app.playerservicejava.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Credential store backed by the users configured under {@code player-service.security.users}.
+ */
+@Component
+public class InMemoryCredentialStore implements CredentialStore {
+
+    // Unknown usernames are checked against this so they take as long as a wrong password
+    private static final String UNKNOWN_USER_HASH = Pbkdf2PasswordHasher.hash("unknown-user".toCharArray());
+
+    @Autowired
+    private SecurityProperties securityProperties;
+
+    @Override
+    public Optional<AuthenticatedPrincipal> verify(String username, char[] password) {
+        SecurityProperties.User user = securityProperties.getUsers().get(username);
+        if (user == null) {
+            Pbkdf2PasswordHasher.matches(password, UNKNOWN_USER_HASH);
+            return Optional.empty();
+        }
+        if (!Pbkdf2PasswordHasher.matches(password, user.getPasswordHash())) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedPrincipal(username, user.getRole()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.app.playerservicejava.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code player-service.rate-limit.*}: per-client token bucket size and refill, and the token cost of
+ * each endpoint category.
+ */
+@Data
+@ConfigurationProperties(prefix = "player-service.rate-limit")
+public class RateLimitProperties {
+
+    public static final String FULL_DUMP = "full-dump";
+    public static final String BULK = "bulk";
+    public static final String CHAT = "chat";
+    public static final String BATCH_GET = "batch-get";
+    public static final String DEFAULT = "default";
+
+    private boolean enabled = true;
+
+    /**
+     * Burst size: tokens a client can spend at once.
+     */
+    private long capacity = 200;
+
+    /**
+     * Sustained tokens per second.
+     */
+    private double refillPerSecond = 50;
+
+    /**
+     * Buckets of clients idle this long are dropped (and start full again).
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private long maxClients = 100_000;
+
+    /**
+     * Tokens per request by endpoint category; categories not listed cost the "default" entry.
+     */
+    private Map<String, Long> costs = new LinkedHashMap<>();
+
+    public long costOf(String category) {
+        Long cost = costs.get(category);
+        if (cost == null) {
+            cost = costs.getOrDefault(DEFAULT, 1L);
+        }
+        return Math.max(1, Math.min(capacity, cost));
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.playerservicejava.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code player-service.security.*}: API users with hashed passwords, the verified- and rejected-credential
+ * caches and the per-client limit on password hash checks.
+ */
+@Data
+@ConfigurationProperties(prefix = "player-service.security")
+public class SecurityProperties {
+
+    /**
+     * Users by username.
+     */
+    private Map<String, User> users = new LinkedHashMap<>();
+
+    private VerifiedCache verifiedCache = new VerifiedCache();
+
+    private RejectedCache rejectedCache = new RejectedCache();
+
+    private VerificationLimit verificationLimit = new VerificationLimit();
+
+    @Data
+    public static class User {
+        /**
+         * Encoded hash from {@link Pbkdf2PasswordHasher}.
+         */
+        private String passwordHash;
+
+        private String role = "USER";
+    }
+
+    @Data
+    public static class VerifiedCache {
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class RejectedCache {
+        private long maximumSize = 100_000;
+
+        /**
+         * Short, so a user who fixes a typo in their password is not locked out for long.
+         */
+        private Duration timeToLive = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Token bucket per remote address; every password hash check that no cache answered spends a token.
+     */
+    @Data
+    public static class VerificationLimit {
+        private long capacity = 10;
+
+        private double refillPerSecond = 0.5;
+
+        private long maxClients = 100_000;
+
+        private Duration idleTimeout = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.playerservicejava.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket using the generic cell rate algorithm: the whole state is one "theoretical
+ * arrival time" updated with CAS, so concurrent callers never block and nothing refills on a timer.
+ *
+ * A bucket holds up to {@code capacity} tokens and regains {@code refillPerSecond} tokens per second.
+ * Times are {@link System#nanoTime()} values passed in by the caller.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, Math.round(1_000_000_000d / refillPerSecond));
+        this.toleranceNanos = nanosPerToken * capacity;
+        // Starts full
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Takes {@code cost} tokens if they are available.
+     *
+     * @return 0 when the tokens were taken, otherwise the nanoseconds until they will be available
+     *         (the bucket is left untouched)
+     */
+    public long tryConsume(long cost, long nowNanos) {
+        long increment = nanosPerToken * Math.min(cost, capacity);
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + increment;
+            long allowedAt = next - toleranceNanos;
+            if (allowedAt - nowNanos > 0) {
+                return allowedAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whole tokens available right now.
+     */
+    public long availableTokens(long nowNanos) {
+        long used = Math.max(0, theoreticalArrival.get() - nowNanos);
+        return Math.max(0, (toleranceNanos - used) / nanosPerToken);
+    }
+
+    /**
+     * Nanoseconds until the bucket is full again.
+     */
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0, theoreticalArrival.get() - nowNanos);
+    }
+}
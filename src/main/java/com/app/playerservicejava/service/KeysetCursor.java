@@ -0,0 +1,81 @@
+package com.app.playerservicejava.service;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort it was issued for,
+ * the last sort value returned and the last playerId (tiebreaker).
+ */
+final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001f";
+    // Prefix distinguishes an empty string sort value from a NULL one
+    private static final String VALUE_PREFIX = "=";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final String sortKey;
+    private final String playerId;
+
+    KeysetCursor(String sortBy, Sort.Direction direction, String sortKey, String playerId) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.sortKey = sortKey;
+        this.playerId = playerId;
+    }
+
+    String getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * The sort key as a value of the sort column's type; a tampered key fails here with
+     * IllegalArgumentException rather than inside the query.
+     */
+    Comparable<?> sortValue(Class<?> type) {
+        if (sortKey == null || type == String.class) {
+            return sortKey;
+        }
+        try {
+            if (type == Integer.class) {
+                return Integer.valueOf(sortKey);
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(sortKey);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        throw new IllegalArgumentException("Unsupported sort column type: " + type.getSimpleName());
+    }
+
+    boolean matches(String sortBy, Sort.Direction direction) {
+        return this.sortBy.equals(sortBy) && this.direction == direction;
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortBy, direction.name(),
+                sortKey == null ? "" : VALUE_PREFIX + sortKey, playerId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0]) || parts[4].isEmpty()) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        String sortKey = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(VALUE_PREFIX.length()) : null;
+        return new KeysetCursor(parts[1], Sort.Direction.fromString(parts[2]), sortKey, parts[4]);
+    }
+}
@@ -0,0 +1,108 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.model.BulkChunkResult;
+import com.app.playerservicejava.model.BulkUpsertResponse;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerBulkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk ingest of players. Rows are consumed lazily from the request body and written in chunks,
+ * each chunk as one JDBC batch in its own transaction, so memory stays bounded by the chunk size
+ * and a bad chunk does not roll back the ones before it.
+ */
+@Service
+public class PlayerBulkService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerBulkService.class);
+
+    @Autowired
+    private PlayerBulkRepository playerBulkRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${player-service.bulk.chunk-size:1000}")
+    private int defaultChunkSize;
+
+    @Value("${player-service.bulk.max-chunk-size:10000}")
+    private int maxChunkSize;
+
+    public BulkUpsertResponse upsertPlayers(Iterator<Player> players, Integer chunkSize) {
+        int size = chunkSize == null ? defaultChunkSize : Math.max(1, Math.min(maxChunkSize, chunkSize));
+        long start = System.nanoTime();
+
+        BulkUpsertResponse response = new BulkUpsertResponse();
+        response.setChunkSize(size);
+
+        List<Player> chunk = new ArrayList<>(size);
+        int rejected = 0;
+        try {
+            while (players.hasNext()) {
+                Player player = players.next();
+                response.setTotalRows(response.getTotalRows() + 1);
+                if (player == null || player.getPlayerId() == null || player.getPlayerId().isBlank()) {
+                    rejected++;
+                    continue;
+                }
+                chunk.add(player);
+                if (chunk.size() == size) {
+                    writeChunk(response, chunk, rejected);
+                    chunk = new ArrayList<>(size);
+                    rejected = 0;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Malformed input part-way through; keep what was read so far and report the error
+            LOGGER.error("message=Exception reading bulk player input; exception={}", e.toString());
+            response.setError("Request body could not be read: " + e.getMessage());
+        }
+        if (!chunk.isEmpty() || rejected > 0) {
+            writeChunk(response, chunk, rejected);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        response.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        LOGGER.info("message=Bulk upsert completed; totalRows={}, writtenRows={}, rejectedRows={}, failedRows={}, chunks={}, rowsPerSecond={}",
+                   response.getTotalRows(), response.getWrittenRows(), response.getRejectedRows(),
+                   response.getFailedRows(), response.getChunks().size(),
+                   elapsedNanos == 0 ? 0 : response.getWrittenRows() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return response;
+    }
+
+    private void writeChunk(BulkUpsertResponse response, List<Player> chunk, int rejected) {
+        int index = response.getChunks().size();
+        BulkChunkResult result;
+        try {
+            int written = chunk.isEmpty() ? 0 : transactionTemplate.execute(status -> playerBulkRepository.upsertAll(chunk));
+            playerService.evictCached(chunk);
+            if (!chunk.isEmpty()) {
+                eventPublisher.publishEvent(new PlayersChangedEvent(chunk));
+            }
+            response.setWrittenRows(response.getWrittenRows() + written);
+            result = new BulkChunkResult(index, chunk.size() + rejected, written, rejected, BulkChunkResult.STATUS_OK, null);
+        } catch (RuntimeException e) {
+            LOGGER.error("message=Exception writing bulk chunk; chunk={}, rows={}, exception={}", index, chunk.size(), e.toString());
+            response.setFailedRows(response.getFailedRows() + chunk.size());
+            result = new BulkChunkResult(index, chunk.size() + rejected, 0, rejected, BulkChunkResult.STATUS_FAILED, e.getMessage());
+        }
+        response.setRejectedRows(response.getRejectedRows() + rejected);
+        response.getChunks().add(result);
+    }
+}
@@ -1,30 +1,138 @@
 package com.app.playerservicejava.service;
 
+import com.app.playerservicejava.config.CachingConfiguration;
+import com.app.playerservicejava.model.BatchGetPlayersResponse;
+import com.app.playerservicejava.model.KeysetPlayersResponse;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerLookupResult;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.model.PaginatedPlayersResponse;
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PlayerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerService.class);
 
+    private static final int WRITE_GENERATION_STRIPES = 1024;
+
     @Autowired
     private PlayerRepository playerRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("playerTaskExecutor")
+    private Executor playerTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${player-service.batch-get.max-ids:500}")
+    private int maxBatchGetIds;
+
+    // Artificial latency on every getPlayerById database load; zero in benchmarks and load tests
+    @Value("${player-service.lookup.simulated-delay:2s}")
+    private Duration simulatedDelay;
+
+    // Full-roster streams in flight; each holds a transaction and a pooled connection until the client has read it all
+    @Value("${player-service.stream.max-concurrent:4}")
+    private int maxConcurrentStreams;
+
+    private final SingleFlight<String, Optional<Player>> playerLookups = new SingleFlight<>();
+
+    private Semaphore streamPermits;
+    private Counter rejectedStreams;
+
+    // Per-key write generation, striped by playerId hash. Every write to a player bumps it, and a load that
+    // read the row before the write drops its cache entry instead of serving the old row until it expires.
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+
+    // getPlayerById latency split by sync/async and by whether the players cache answered
+    private Timer syncHitTimer;
+    private Timer syncMissTimer;
+    private Timer asyncHitTimer;
+    private Timer asyncMissTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("player.lookup.coalesced", playerLookups, SingleFlight::getCoalescedCount)
+                .description("getPlayerById calls that joined an in-flight database load instead of starting one")
+                .register(meterRegistry);
+        syncHitTimer = lookupTimer("sync", "hit");
+        syncMissTimer = lookupTimer("sync", "miss");
+        asyncHitTimer = lookupTimer("async", "hit");
+        asyncMissTimer = lookupTimer("async", "miss");
+        streamPermits = new Semaphore(maxConcurrentStreams);
+        rejectedStreams = Counter.builder("player.stream.rejected")
+                .description("Full-roster streams refused because max-concurrent streams were already running")
+                .register(meterRegistry);
+    }
+
+    private Timer lookupTimer(String mode, String cache) {
+        return Timer.builder("player.lookup")
+                .description("getPlayerById latency")
+                .tag("mode", mode)
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
     public Players getPlayers() {
         Players players = new Players();
         playerRepository.findAll()
@@ -32,20 +140,76 @@ public class PlayerService {
         return players;
     }
 
+    /**
+     * Claims a slot for one {@link #streamPlayers} call, to be given back with {@link #endStream()} once the
+     * response is written. A slow client keeps its stream's connection for as long as it reads, so without
+     * the cap a few of them would take the whole Hikari pool from every other request.
+     *
+     * @return false when player-service.stream.max-concurrent streams are already running
+     */
+    public boolean tryStartStream() {
+        if (streamPermits.tryAcquire()) {
+            return true;
+        }
+        rejectedStreams.increment();
+        return false;
+    }
+
+    public void endStream() {
+        streamPermits.release();
+    }
+
+    /**
+     * Streams every player to the given sink as rows come off the database cursor.
+     * Each entity is detached once handed over, so memory stays bounded regardless of table size.
+     */
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
+    @Transactional(readOnly = true)
+    public long streamPlayers(Consumer<Player> sink) {
+        long count = 0;
+        // H2 otherwise reads the whole result before handing over the first row, so the fetch size
+        // hint is ignored and the client waits as long as for the materialized roster
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> setLazyQueryExecution(connection, true));
+        try {
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                Iterator<Player> iterator = players.iterator();
+                while (iterator.hasNext()) {
+                    Player player = iterator.next();
+                    sink.accept(player);
+                    entityManager.detach(player);
+                    count++;
+                }
+            }
+        } finally {
+            session.doWork(connection -> setLazyQueryExecution(connection, false));
+        }
+        LOGGER.debug("message=Streamed players successfully; count={}", count);
+        return count;
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean lazy) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+
     /**
      * Async version of getPlayers - uses default thread pool
      */
+    @Timed(value = "player.service", extraTags = {"mode", "async"})
     @Async
     public CompletableFuture<Players> getPlayersAsync() {
-        LOGGER.info("message=Starting async getPlayers; thread={}", Thread.currentThread().getName());
+        LOGGER.debug("message=Starting async getPlayers; thread={}", Thread.currentThread().getName());
         Players players = new Players();
         playerRepository.findAll()
                 .forEach(players.getPlayers()::add);
-        LOGGER.info("message=Completed async getPlayers; thread={}, count={}",
+        LOGGER.debug("message=Completed async getPlayers; thread={}, count={}",
                    Thread.currentThread().getName(), players.getPlayers().size());
         return CompletableFuture.completedFuture(players);
     }
 
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
     public PaginatedPlayersResponse getPlayersPaginated(int page, int size, String sortBy, String sortDirection) {
         try {
             // Validate and set default values
@@ -83,7 +247,7 @@ public class PlayerService {
             response.setFirst(playerPage.isFirst());
             response.setLast(playerPage.isLast());
 
-            LOGGER.info("message=Paginated players retrieved successfully; page={}, size={}, totalElements={}",
+            LOGGER.debug("message=Paginated players retrieved successfully; page={}, size={}, totalElements={}",
                        page, size, playerPage.getTotalElements());
 
             return response;
@@ -97,13 +261,14 @@ public class PlayerService {
     /**
      * Async version of getPlayersPaginated - uses paginated thread pool
      */
+    @Timed(value = "player.service", extraTags = {"mode", "async"})
     @Async("paginatedTaskExecutor")
     public CompletableFuture<PaginatedPlayersResponse> getPlayersPaginatedAsync(int page, int size, String sortBy, String sortDirection) {
-        LOGGER.info("message=Starting async pagination; thread={}, page={}, size={}",
+        LOGGER.debug("message=Starting async pagination; thread={}, page={}, size={}",
                    Thread.currentThread().getName(), page, size);
         try {
             PaginatedPlayersResponse response = getPlayersPaginated(page, size, sortBy, sortDirection);
-            LOGGER.info("message=Completed async pagination; thread={}, page={}, size={}",
+            LOGGER.debug("message=Completed async pagination; thread={}, page={}, size={}",
                        Thread.currentThread().getName(), page, size);
             return CompletableFuture.completedFuture(response);
         } catch (Exception e) {
@@ -113,44 +278,277 @@ public class PlayerService {
         }
     }
 
-    @Cacheable("players")
+    /**
+     * Keyset (seek) pagination: continues after the position encoded in {@code cursor} instead of
+     * skipping rows, and never runs a count query. A null or blank cursor starts from the first row.
+     * Throws IllegalArgumentException for an unknown sort column, direction or a malformed cursor.
+     */
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
+    public KeysetPlayersResponse getPlayersKeyset(String cursor, int size, String sortBy, String sortDirection) {
+        size = Math.max(1, Math.min(100, size)); // Size between 1 and 100
+        if (sortBy == null || sortBy.trim().isEmpty()) {
+            sortBy = "playerId";
+        }
+        if (sortDirection == null || sortDirection.trim().isEmpty()) {
+            sortDirection = "asc";
+        }
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection.toLowerCase());
+        Class<?> sortType = keysetSortType(sortBy);
+
+        KeysetCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = KeysetCursor.decode(cursor);
+            if (!after.matches(sortBy, direction)) {
+                throw new IllegalArgumentException("Cursor was issued for a different sortBy/sortDirection");
+            }
+        }
+
+        Slice<Player> slice = playerRepository.findSliceAfter(sortBy, direction,
+                after == null ? null : after.sortValue(sortType),
+                after == null ? null : after.getPlayerId(),
+                size);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Player last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            Object lastSortValue = new BeanWrapperImpl(last).getPropertyValue(sortBy);
+            nextCursor = new KeysetCursor(sortBy, direction,
+                    lastSortValue == null ? null : lastSortValue.toString(),
+                    last.getPlayerId()).encode();
+        }
+
+        KeysetPlayersResponse response = new KeysetPlayersResponse();
+        response.setPlayers(slice.getContent());
+        response.setSize(size);
+        response.setSortBy(sortBy);
+        response.setSortDirection(direction.name().toLowerCase());
+        response.setNextCursor(nextCursor);
+        response.setHasNext(slice.hasNext());
+
+        LOGGER.debug("message=Keyset players retrieved successfully; size={}, sortBy={}, hasNext={}",
+                   size, sortBy, slice.hasNext());
+        return response;
+    }
+
+    // Checked here because the repository proxy would turn the metamodel's IllegalArgumentException into a
+    // data access exception
+    private Class<?> keysetSortType(String sortBy) {
+        Class<?> type;
+        try {
+            type = entityManager.getMetamodel().entity(Player.class).getSingularAttribute(sortBy).getJavaType();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sortBy: " + sortBy, e);
+        }
+        if (type != String.class && type != Integer.class && type != LocalDate.class) {
+            throw new IllegalArgumentException("Cannot sort by " + sortBy);
+        }
+        return type;
+    }
+
+    /**
+     * Async version of getPlayersKeyset - uses paginated thread pool
+     */
+    @Timed(value = "player.service", extraTags = {"mode", "async"})
+    @Async("paginatedTaskExecutor")
+    public CompletableFuture<KeysetPlayersResponse> getPlayersKeysetAsync(String cursor, int size, String sortBy, String sortDirection) {
+        try {
+            return CompletableFuture.completedFuture(getPlayersKeyset(cursor, size, sortBy, sortDirection));
+        } catch (Exception e) {
+            LOGGER.error("message=Exception in async keyset pagination; thread={}, exception={}",
+                        Thread.currentThread().getName(), e.toString());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Cache first; on a miss, concurrent callers for the same ID share a single database load.
+     */
     public Optional<Player> getPlayerById(String playerId) {
-        LOGGER.info("==> Fetching player with ID {} from database.", playerId);
-        Optional<Player> player = null;
+        long start = System.nanoTime();
+        Optional<Player> cached = getCachedPlayer(playerId);
+        if (cached != null) {
+            syncHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+        try {
+            return playerLookups.execute(playerId, () -> loadPlayerById(playerId));
+        } finally {
+            syncMissTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Async version of getPlayerById - loads on the player thread pool. Cache hits complete immediately
+     * and concurrent misses (sync or async) for the same ID share one in-flight load.
+     */
+    public CompletableFuture<Optional<Player>> getPlayerByIdAsync(String playerId) {
+        long start = System.nanoTime();
+        Optional<Player> cached = getCachedPlayer(playerId);
+        if (cached != null) {
+            asyncHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Optional<Player>> lookup = playerLookups.submit(playerId, () -> loadPlayerById(playerId), playerTaskExecutor);
+        lookup.whenComplete((player, ex) -> asyncMissTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        return lookup;
+    }
+
+    /**
+     * Multi-get: cache hits are served directly and all misses are fetched with one IN (...) query,
+     * then written back to the cache (unknown IDs as short-lived negative entries) unless a write to that ID
+     * happened meanwhile.
+     * Results follow request order; duplicates are resolved once.
+     */
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
+    public BatchGetPlayersResponse getPlayersByIds(List<String> playerIds) {
+        if (playerIds == null || playerIds.isEmpty()) {
+            throw new IllegalArgumentException("playerIds must not be empty");
+        }
+        if (playerIds.size() > maxBatchGetIds) {
+            throw new IllegalArgumentException("At most " + maxBatchGetIds + " playerIds per request");
+        }
+
+        Map<String, Optional<Player>> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String playerId : new LinkedHashSet<>(playerIds)) {
+            if (playerId == null) {
+                continue;
+            }
+            Optional<Player> cached = getCachedPlayer(playerId);
+            if (cached != null) {
+                resolved.put(playerId, cached);
+            } else {
+                misses.add(playerId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long[] readGenerations = new long[misses.size()];
+            for (int i = 0; i < readGenerations.length; i++) {
+                readGenerations[i] = writeGeneration(misses.get(i));
+            }
+            for (Player player : playerRepository.findAllById(misses)) {
+                resolved.put(player.getPlayerId(), Optional.of(player));
+            }
+            for (int i = 0; i < readGenerations.length; i++) {
+                String playerId = misses.get(i);
+                cacheLoaded(playerId, readGenerations[i], resolved.computeIfAbsent(playerId, id -> Optional.empty()));
+            }
+        }
+
+        List<PlayerLookupResult> results = new ArrayList<>(playerIds.size());
+        List<String> missingIds = new ArrayList<>();
+        int found = 0;
+        for (String playerId : playerIds) {
+            Player player = playerId == null ? null : resolved.get(playerId).orElse(null);
+            results.add(new PlayerLookupResult(playerId, player != null, player));
+            if (player != null) {
+                found++;
+            } else {
+                missingIds.add(playerId);
+            }
+        }
+
+        LOGGER.debug("message=Batch get completed; requested={}, cacheMisses={}, found={}",
+                   playerIds.size(), misses.size(), found);
+        return new BatchGetPlayersResponse(results, playerIds.size(), found, missingIds);
+    }
+
+    /**
+     * Async version of getPlayersByIds - uses player thread pool
+     */
+    @Timed(value = "player.service", extraTags = {"mode", "async"})
+    @Async("playerTaskExecutor")
+    public CompletableFuture<BatchGetPlayersResponse> getPlayersByIdsAsync(List<String> playerIds) {
+        try {
+            return CompletableFuture.completedFuture(getPlayersByIds(playerIds));
+        } catch (Exception e) {
+            LOGGER.error("message=Exception in async batch get; thread={}, exception={}",
+                        Thread.currentThread().getName(), e.toString());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Returns the cached lookup result without triggering a load, or null when the ID is not cached.
+     */
+    private Optional<Player> getCachedPlayer(String playerId) {
+        Object cached = playersCache().getIfPresent(playerId);
+        if (cached == null) {
+            return null;
+        }
+        return cached instanceof Player player ? Optional.of(player) : Optional.empty();
+    }
+
+    private Optional<Player> loadPlayerById(String playerId) {
+        LOGGER.debug("==> Fetching player with ID {} from database.", playerId);
+        long readGeneration = writeGeneration(playerId);
+        Optional<Player> player;
 
         /* simulated network delay */
         try {
             player = playerRepository.findById(playerId);
-            Thread.sleep(2000); // Increased delay to make caching obvious
+            if (!simulatedDelay.isZero()) {
+                Thread.sleep(simulatedDelay.toMillis()); // Delay to make caching obvious
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
         } catch (Exception e) {
             LOGGER.error("message=Exception in getPlayerById; exception={}", e.toString());
             return Optional.empty();
         }
+        // Cache before the in-flight entry is released so late arrivals hit the cache
+        cacheLoaded(playerId, readGeneration, player);
         return player;
     }
 
     /**
-     * Async version of getPlayerById - uses player thread pool
+     * Caches a database read (absent as a negative entry) unless the player was written since
+     * {@code readGeneration} was taken, in which case the read may predate the write and is dropped.
+     * Checking after the put, as PlayerResponseCache does, also covers a write landing between check and put.
      */
-    @Async("playerTaskExecutor")
-    public CompletableFuture<Optional<Player>> getPlayerByIdAsync(String playerId) {
-        LOGGER.info("message=Starting async getPlayerById; thread={}, playerId={}",
-                   Thread.currentThread().getName(), playerId);
-        try {
-            Optional<Player> player = getPlayerById(playerId);
-            LOGGER.info("message=Completed async getPlayerById; thread={}, playerId={}, found={}",
-                       Thread.currentThread().getName(), playerId, player.isPresent());
-            return CompletableFuture.completedFuture(player);
-        } catch (Exception e) {
-            LOGGER.error("message=Exception in async getPlayerById; thread={}, playerId={}, exception={}",
-                        Thread.currentThread().getName(), playerId, e.toString());
-            return CompletableFuture.failedFuture(e);
+    private void cacheLoaded(String playerId, long readGeneration, Optional<Player> player) {
+        Cache<Object, Object> playersCache = playersCache();
+        playersCache.put(playerId, player.<Object>map(value -> value).orElse(NullValue.INSTANCE));
+        if (writeGeneration(playerId) != readGeneration) {
+            playersCache.invalidate(playerId);
+        }
+    }
+
+    /**
+     * Drops players that were just written from the players cache, and makes any load that read them
+     * before the write skip its cache put. Call after the write has committed.
+     */
+    public void evictCached(Collection<Player> players) {
+        Cache<Object, Object> playersCache = playersCache();
+        for (Player player : players) {
+            writeGenerations.incrementAndGet(stripe(player.getPlayerId()));
+            playersCache.invalidate(player.getPlayerId());
         }
     }
 
+    private long writeGeneration(String playerId) {
+        return writeGenerations.get(stripe(playerId));
+    }
+
+    private static int stripe(String playerId) {
+        int hash = playerId.hashCode();
+        return (hash ^ (hash >>> 16)) & (WRITE_GENERATION_STRIPES - 1);
+    }
+
+    private Cache<Object, Object> playersCache() {
+        return ((CaffeineCache) cacheManager.getCache(CachingConfiguration.PLAYERS_CACHE)).getNativeCache();
+    }
+
+    @Timed(value = "player.service", extraTags = {"mode", "sync"})
     public Player savePlayer(Player player) {
         try {
             Player savedPlayer = playerRepository.save(player);
+            // Evict rather than write through: two saves of one ID can finish in either order, a put could
+            // leave the older row cached. The next lookup reads the committed row.
+            evictCached(List.of(savedPlayer));
+            eventPublisher.publishEvent(new PlayersChangedEvent(List.of(savedPlayer)));
             LOGGER.info("message=Player saved successfully; playerId={}", savedPlayer.getPlayerId());
             return savedPlayer;
         } catch (Exception e) {
@@ -162,13 +560,14 @@ public class PlayerService {
     /**
      * Async version of savePlayer - uses player thread pool
      */
+    @Timed(value = "player.service", extraTags = {"mode", "async"})
     @Async("playerTaskExecutor")
     public CompletableFuture<Player> savePlayerAsync(Player player) {
-        LOGGER.info("message=Starting async savePlayer; thread={}, playerId={}",
+        LOGGER.debug("message=Starting async savePlayer; thread={}, playerId={}",
                    Thread.currentThread().getName(), player.getPlayerId());
         try {
             Player savedPlayer = savePlayer(player);
-            LOGGER.info("message=Completed async savePlayer; thread={}, playerId={}",
+            LOGGER.debug("message=Completed async savePlayer; thread={}, playerId={}",
                        Thread.currentThread().getName(), savedPlayer.getPlayerId());
             return CompletableFuture.completedFuture(savedPlayer);
         } catch (Exception e) {
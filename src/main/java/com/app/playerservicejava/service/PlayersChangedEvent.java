@@ -0,0 +1,22 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.model.Player;
+
+import java.util.List;
+
+/**
+ * Published after players were written to the database (single save or bulk chunk), so in-memory
+ * structures derived from the PLAYERS table can apply the change incrementally.
+ */
+public class PlayersChangedEvent {
+
+    private final List<Player> players;
+
+    public PlayersChangedEvent(List<Player> players) {
+        this.players = List.copyOf(players);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+}
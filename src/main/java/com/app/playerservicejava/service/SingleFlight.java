@@ -0,0 +1,183 @@
+package com.app.playerservicejava.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key: the first caller runs the loader and every
+ * caller that arrives while that load is in flight shares its result instead of starting another.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the loader on the calling thread, or waits for the load already in flight for the key.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Runs the loader on the executor, or joins the load already in flight for the key.
+     * Each caller gets its own copy of the shared future, so cancelling one does not affect the others.
+     */
+    public CompletableFuture<V> submit(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        try {
+            CompletableFuture.supplyAsync(loader, executor).whenComplete((value, error) -> {
+                if (error != null) {
+                    flight.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    flight.complete(value);
+                }
+                inFlight.remove(key, flight);
+            });
+        } catch (RuntimeException e) {
+            // Executor rejected the load; let waiters fail fast rather than hang
+            flight.completeExceptionally(e);
+            inFlight.remove(key, flight);
+            throw e;
+        }
+        return flight.copy();
+    }
+
+    /**
+     * Starts a load that is itself asynchronous (the loader only has to start it, on the calling thread), or
+     * joins the one already in flight for the key. No thread waits for the load. Each caller gets its own copy
+     * of the shared future; cancelling it leaves the other callers alone, and the load itself is cancelled
+     * once every caller has cancelled its copy.
+     */
+    public CompletableFuture<V> attach(K key, Supplier<CompletableFuture<V>> loader) {
+        while (true) {
+            SharedLoad<V> flight = new SharedLoad<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                CompletableFuture<V> waiter = existing instanceof SharedLoad<V> shared ? shared.newWaiter() : existing.copy();
+                if (waiter == null) {
+                    // Every caller of that load cancelled just now; start a new one
+                    inFlight.remove(key, existing);
+                    continue;
+                }
+                coalesced.increment();
+                return waiter;
+            }
+            CompletableFuture<V> load;
+            try {
+                load = loader.get();
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                inFlight.remove(key, flight);
+                throw e;
+            }
+            // Completed by the load, or cancelled once abandoned
+            flight.whenComplete((value, error) -> inFlight.remove(key, flight));
+            flight.started(load);
+            load.whenComplete((value, error) -> {
+                if (error != null) {
+                    flight.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    flight.complete(value);
+                }
+            });
+            return flight.creatorWaiter();
+        }
+    }
+
+    /**
+     * Number of callers that joined an in-flight load instead of running the loader themselves.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Shared future of an {@link #attach} load that counts the callers still waiting for it.
+     */
+    private static final class SharedLoad<V> extends CompletableFuture<V> {
+
+        // Guarded by this; the caller that started the load counts from the beginning
+        private CompletableFuture<V> load;
+        private int waiters = 1;
+        private boolean abandoned;
+
+        synchronized void started(CompletableFuture<V> load) {
+            this.load = load;
+        }
+
+        CompletableFuture<V> creatorWaiter() {
+            return watch(copy());
+        }
+
+        /**
+         * A copy for one more caller, or null when the load was already abandoned.
+         */
+        synchronized CompletableFuture<V> newWaiter() {
+            if (abandoned) {
+                return null;
+            }
+            waiters++;
+            return watch(copy());
+        }
+
+        private CompletableFuture<V> watch(CompletableFuture<V> waiter) {
+            waiter.whenComplete((value, error) -> {
+                if (waiter.isCancelled()) {
+                    leave();
+                }
+            });
+            return waiter;
+        }
+
+        private void leave() {
+            CompletableFuture<V> cancelled;
+            synchronized (this) {
+                if (--waiters > 0 || isDone()) {
+                    return;
+                }
+                abandoned = true;
+                cancelled = load;
+            }
+            cancel(true);
+            if (cancelled != null) {
+                cancelled.cancel(true);
+            }
+        }
+    }
+}
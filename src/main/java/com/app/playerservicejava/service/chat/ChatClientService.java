@@ -1,44 +1,445 @@
 package com.app.playerservicejava.service.chat;
 
+import com.app.playerservicejava.config.CachingConfiguration;
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.ollama4j.OllamaAPI;
 import io.github.ollama4j.exceptions.OllamaBaseException;
 import io.github.ollama4j.models.Model;
-import io.github.ollama4j.models.OllamaResult;
-import io.github.ollama4j.types.OllamaModelType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import io.github.ollama4j.utils.OptionsBuilder;
-import io.github.ollama4j.utils.PromptBuilder;
 
 import java.io.IOException;
+import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * Generations against Ollama's /api/generate in streaming mode. Tokens are handed to the caller as each
+ * NDJSON line arrives; the body is consumed by a line subscriber on the HTTP client's executor, so no thread
+ * waits on the model between tokens. Each configured model has its own concurrency cap, and every other model
+ * name shares one; a request over the cap is refused rather than queued, because a queued generation would
+ * hold its caller for minutes.
+ */
 @Service
 public class ChatClientService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatClientService.class);
 
-    @Autowired
-    private OllamaAPI ollamaAPI;
+    // Ollama model names look like "llama3", "tinyllama:1.1b" or "library/mistral:7b-instruct"
+    private static final Pattern MODEL_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._:/-]{0,127}");
 
+    // Permits and meter tag of every model name that is not configured, so client-chosen names cannot add either
+    private static final String OTHER_MODELS = "other";
+
+    private final ChatProperties properties;
+    private final OllamaAPI ollamaAPI;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final URI generateUri;
+    private final URI embeddingsUri;
+    private final Map<String, ModelPermits> permitsByModel;
+    private final ModelPermits otherModelPermits;
+
+    public ChatClientService(ChatProperties properties, OllamaAPI ollamaAPI, HttpClient ollamaHttpClient,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ollamaAPI = ollamaAPI;
+        this.httpClient = ollamaHttpClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.generateUri = properties.getHost().resolve("api/generate");
+        this.embeddingsUri = properties.getHost().resolve("api/embeddings");
+        Set<String> models = new LinkedHashSet<>();
+        models.add(properties.getDefaultModel());
+        models.addAll(properties.getModels());
+        models.addAll(properties.getModelConcurrency().keySet());
+        Map<String, ModelPermits> permits = new HashMap<>();
+        for (String model : models) {
+            permits.put(model, new ModelPermits(model,
+                    properties.getModelConcurrency().getOrDefault(model, properties.getMaxConcurrentGenerations())));
+        }
+        this.permitsByModel = Map.copyOf(permits);
+        this.otherModelPermits = new ModelPermits(OTHER_MODELS, properties.getMaxConcurrentGenerations());
+    }
+
+    @Cacheable(CachingConfiguration.CHAT_MODELS_CACHE)
     public List<Model> listModels() throws OllamaBaseException, IOException, URISyntaxException, InterruptedException {
         List<Model> models = ollamaAPI.listModels();
         return models;
     }
 
-    public String chat() throws OllamaBaseException, IOException, InterruptedException {
-        String model = OllamaModelType.TINYLLAMA;
+    /**
+     * The request with a missing model or prompt replaced by the configured default, as it will be sent.
+     *
+     * @throws IllegalArgumentException for an invalid model name or an oversized prompt
+     */
+    public ChatRequest normalize(ChatRequest request) {
+        String model = request == null || isBlank(request.getModel()) ? properties.getDefaultModel() : request.getModel().trim();
+        String prompt = request == null || isBlank(request.getPrompt()) ? properties.getDefaultPrompt() : request.getPrompt();
+        if (!MODEL_NAME.matcher(model).matches()) {
+            throw new IllegalArgumentException("Invalid model name: " + model);
+        }
+        if (prompt.length() > properties.getMaxPromptLength()) {
+            throw new IllegalArgumentException("Prompt longer than " + properties.getMaxPromptLength() + " characters");
+        }
+        Map<String, Object> options = request == null || request.getOptions() == null || request.getOptions().isEmpty()
+                ? null : request.getOptions();
+        return new ChatRequest(model, prompt, options);
+    }
+
+    /**
+     * Starts a generation. With an {@code onToken} callback every token is passed to it as it arrives and the
+     * completion carries only the timings; without one the tokens are collected into the completion's response.
+     * Cancelling the returned future aborts the Ollama request, which stops the generation.
+     *
+     * @throws IllegalArgumentException for an invalid model name or an oversized prompt
+     * @throws ChatException            with 503 when the model already runs its maximum number of generations
+     */
+    public CompletableFuture<ChatCompletion> generate(ChatRequest request, Consumer<String> onToken) {
+        ChatRequest normalized = normalize(request);
+        String model = normalized.getModel();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", model);
+        body.put("prompt", normalized.getPrompt());
+        body.put("stream", true);
+        if (normalized.getOptions() != null) {
+            body.put("options", normalized.getOptions());
+        }
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(generateUri)
+                    .timeout(properties.getGenerationTimeout())
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Options are not serializable", e);
+        }
+
+        ModelPermits permits = permitsFor(model);
+        if (!permits.semaphore.tryAcquire()) {
+            permits.rejected.increment();
+            throw new ChatException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Model " + model + " is already running " + permits.limit + " generations");
+        }
+
+        Generation generation = new Generation(model, permits, onToken);
+        CompletableFuture<HttpResponse<Void>> exchange;
+        try {
+            exchange = httpClient.sendAsync(httpRequest, generation::bodyHandler);
+        } catch (RuntimeException e) {
+            permits.semaphore.release();
+            throw e;
+        }
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                generation.fail(error);
+            }
+        });
+        generation.result.orTimeout(properties.getGenerationTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((completion, error) -> {
+                    permits.semaphore.release();
+                    // Whether cancelled by the caller, timed out or failed mid-stream, stop Ollama generating
+                    generation.cancelSubscription();
+                    exchange.cancel(true);
+                    generation.record(error);
+                });
+        return generation.result;
+    }
+
+    /**
+     * Embedding of {@code prompt} from Ollama's /api/embeddings, normalized to unit length.
+     */
+    public CompletableFuture<float[]> embed(String model, String prompt, Duration timeout) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(embeddingsUri)
+                    .timeout(timeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(Map.of("model", model, "prompt", prompt))))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw statusException(response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+                    }
+                    JsonNode values;
+                    try {
+                        values = objectMapper.readTree(response.body()).path("embedding");
+                    } catch (IOException e) {
+                        throw new ChatException(HttpStatus.BAD_GATEWAY, "Unreadable embedding from Ollama");
+                    }
+                    if (!values.isArray() || values.isEmpty()) {
+                        throw new ChatException(HttpStatus.BAD_GATEWAY, "Ollama returned no embedding for model " + model);
+                    }
+                    float[] embedding = new float[values.size()];
+                    double norm = 0;
+                    for (int i = 0; i < embedding.length; i++) {
+                        embedding[i] = (float) values.get(i).asDouble();
+                        norm += embedding[i] * embedding[i];
+                    }
+                    float scale = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+                    for (int i = 0; i < embedding.length; i++) {
+                        embedding[i] *= scale;
+                    }
+                    return embedding;
+                });
+    }
+
+    private ModelPermits permitsFor(String model) {
+        return permitsByModel.getOrDefault(model, otherModelPermits);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static ChatException statusException(int status, String body) {
+        HttpStatus mapped = switch (status) {
+            case 400 -> HttpStatus.BAD_REQUEST;
+            case 404 -> HttpStatus.NOT_FOUND;
+            default -> HttpStatus.BAD_GATEWAY;
+        };
+        return new ChatException(mapped, "Ollama answered " + status + ": " + body);
+    }
+
+    /**
+     * Permits and meters of one model.
+     */
+    private final class ModelPermits {
+        private final int limit;
+        private final Semaphore semaphore;
+        private final Counter rejected;
+        private final Counter tokens;
+        private final Timer firstToken;
+        private final String model;
 
-        // https://ollama4j.github.io/ollama4j/intro
-        PromptBuilder promptBuilder =
-                new PromptBuilder()
-                        .addLine("Recite a haiku about recursion.");
+        private ModelPermits(String model, int limit) {
+            this.model = model;
+            this.limit = limit;
+            this.semaphore = new Semaphore(limit);
+            this.rejected = Counter.builder("player.chat.rejected")
+                    .description("Generations refused because the model was at its concurrency cap")
+                    .tag("model", model)
+                    .register(meterRegistry);
+            this.tokens = Counter.builder("player.chat.tokens")
+                    .description("Tokens received from Ollama")
+                    .tag("model", model)
+                    .register(meterRegistry);
+            this.firstToken = Timer.builder("player.chat.first.token")
+                    .description("Time from sending a generation to receiving its first token")
+                    .tag("model", model)
+                    .register(meterRegistry);
+            Gauge.builder("player.chat.in.flight", semaphore, s -> limit - s.availablePermits())
+                    .description("Generations in flight")
+                    .tag("model", model)
+                    .register(meterRegistry);
+        }
 
-        boolean raw = false;
-        OllamaResult response = ollamaAPI.generate(model, promptBuilder.build(), raw, new OptionsBuilder().build());
-        return response.getResponse();
+        private Timer generation(String outcome) {
+            return Timer.builder("player.chat.generation")
+                    .description("Duration of whole generations by outcome")
+                    .tag("model", model)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
     }
 
+    /**
+     * One streamed generation: receives Ollama's NDJSON lines one at a time and requests the next line only
+     * after the token has been handed on, so a slow caller slows the read instead of buffering the response.
+     */
+    private final class Generation implements Flow.Subscriber<String> {
+        private final String model;
+        private final ModelPermits permits;
+        private final Consumer<String> onToken;
+        private final StringBuilder collected;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<ChatCompletion> result = new CompletableFuture<>();
+
+        private volatile Flow.Subscription subscription;
+        private volatile int status;
+        // Only touched from onNext/onComplete, which the subscription serializes
+        private final StringBuilder errorBody = new StringBuilder();
+        private long firstTokenNanos;
+        private int tokens;
+
+        private Generation(String model, ModelPermits permits, Consumer<String> onToken) {
+            this.model = model;
+            this.permits = permits;
+            this.onToken = onToken;
+            this.collected = onToken == null ? new StringBuilder() : null;
+        }
+
+        private HttpResponse.BodySubscriber<Void> bodyHandler(HttpResponse.ResponseInfo info) {
+            status = info.statusCode();
+            return HttpResponse.BodySubscribers.fromLineSubscriber(this);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (result.isDone()) {
+                subscription.cancel();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (result.isDone()) {
+                return;
+            }
+            if (status != 200) {
+                errorBody.append(line);
+                subscription.request(1);
+                return;
+            }
+            if (line.isBlank()) {
+                subscription.request(1);
+                return;
+            }
+            JsonNode chunk;
+            try {
+                chunk = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                fail(new ChatException(HttpStatus.BAD_GATEWAY, "Unreadable line from Ollama: " + e.getOriginalMessage()));
+                return;
+            }
+            if (chunk.hasNonNull("error")) {
+                fail(new ChatException(HttpStatus.BAD_GATEWAY, "Ollama failed mid-generation: " + chunk.get("error").asText()));
+                return;
+            }
+            String token = chunk.path("response").asText("");
+            if (!token.isEmpty()) {
+                if (tokens++ == 0) {
+                    firstTokenNanos = System.nanoTime() - startNanos;
+                    permits.firstToken.record(firstTokenNanos, TimeUnit.NANOSECONDS);
+                }
+                permits.tokens.increment();
+                if (collected != null) {
+                    collected.append(token);
+                } else {
+                    try {
+                        onToken.accept(token);
+                    } catch (RuntimeException e) {
+                        // The caller went away; stop pulling tokens nobody reads
+                        CancellationException cancelled = new CancellationException("Caller stopped reading the stream");
+                        cancelled.initCause(e);
+                        result.completeExceptionally(cancelled);
+                        return;
+                    }
+                }
+            }
+            if (chunk.path("done").asBoolean(false)) {
+                long totalNanos = System.nanoTime() - startNanos;
+                result.complete(new ChatCompletion(model, collected == null ? null : collected.toString(),
+                        chunk.path("eval_count").asInt(tokens), TimeUnit.NANOSECONDS.toMillis(firstTokenNanos),
+                        TimeUnit.NANOSECONDS.toMillis(totalNanos), false));
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            fail(error);
+        }
+
+        @Override
+        public void onComplete() {
+            if (status != 200) {
+                fail(statusException(status, errorBody.toString()));
+            } else {
+                fail(new ChatException(HttpStatus.BAD_GATEWAY, "Ollama closed the stream before the generation was done"));
+            }
+        }
+
+        private void fail(Throwable error) {
+            Throwable cause = unwrap(error);
+            if (cause instanceof HttpTimeoutException) {
+                cause = new TimeoutException(cause.getMessage());
+            } else if (cause instanceof IOException) {
+                cause = new ChatException(HttpStatus.BAD_GATEWAY, "Ollama unreachable: " + cause);
+            }
+            result.completeExceptionally(cause);
+        }
+
+        private void cancelSubscription() {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private void record(Throwable error) {
+            Throwable cause = error == null ? null : unwrap(error);
+            String outcome;
+            if (cause == null) {
+                outcome = "success";
+            } else if (cause instanceof CancellationException) {
+                outcome = "cancelled";
+            } else if (cause instanceof TimeoutException) {
+                outcome = "timeout";
+            } else if (cause instanceof ChatException e && e.getStatus().is4xxClientError()) {
+                outcome = "client_error";
+            } else {
+                outcome = "failure";
+            }
+            permits.generation(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if ("failure".equals(outcome) || "timeout".equals(outcome)) {
+                LOGGER.warn("message=Chat generation failed; model={}, outcome={}, tokens={}, error={}",
+                           model, outcome, tokens, cause.toString());
+            }
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.app.playerservicejava.service.chat;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A chat generation that was refused or failed, with the status to answer the caller with.
+ */
+public class ChatException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public ChatException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.app.playerservicejava.service.chat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Cancelling a dependent stage ({@code thenApply}, {@code thenCompose}) never reaches the future it depends
+ * on, so a caller giving up would leave the Ollama exchange, and its model permit, busy until the generation
+ * timeout. Stages handed out by this package are linked back with {@link #cancelsUpstream}.
+ */
+final class ChatFutures {
+
+    private ChatFutures() {
+    }
+
+    /**
+     * Returns {@code dependent}, which now cancels {@code upstream} when it is cancelled.
+     */
+    static <T> CompletableFuture<T> cancelsUpstream(CompletableFuture<T> dependent, Future<?> upstream) {
+        dependent.whenComplete((value, error) -> {
+            if (dependent.isCancelled()) {
+                upstream.cancel(true);
+            }
+        });
+        return dependent;
+    }
+}
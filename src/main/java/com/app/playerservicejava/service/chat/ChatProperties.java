@@ -0,0 +1,105 @@
+package com.app.playerservicejava.service.chat;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code player-service.chat.*}: where Ollama is, what a request without a model or prompt generates, which
+ * models are served, and how many generations each model may run at once.
+ */
+@Data
+@ConfigurationProperties(prefix = "player-service.chat")
+public class ChatProperties {
+
+    // Once you start the Ollama docker container - Ollama server runs locally on port 11434 at http://127.0.0.1:11434/
+    private URI host = URI.create("http://127.0.0.1:11434/");
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Upper bound on a whole generation, streamed or not.
+     */
+    private Duration generationTimeout = Duration.ofSeconds(120);
+
+    private String defaultModel = "tinyllama";
+
+    /**
+     * Models served besides the default one. Each configured model (these, the default and the keys of
+     * modelConcurrency) gets its own permits and meter tags; any other name a client sends shares one pool
+     * tagged {@code model=other}.
+     */
+    private List<String> models = new ArrayList<>();
+
+    private String defaultPrompt = "Recite a haiku about recursion.";
+
+    private int maxPromptLength = 8000;
+
+    /**
+     * Generations allowed in flight per model; further requests get 503 instead of queueing behind a busy model.
+     */
+    private int maxConcurrentGenerations = 4;
+
+    // Per-model overrides of maxConcurrentGenerations, e.g. a large model that only fits one request at a time
+    private Map<String, Integer> modelConcurrency = new HashMap<>();
+
+    private ResponseCache cache = new ResponseCache();
+
+    private PlayerContext players = new PlayerContext();
+
+    /**
+     * v1/chat answers reused for identical (and optionally near-identical) requests, see {@link ChatResponseCache}.
+     */
+    @Data
+    public static class ResponseCache {
+        private boolean enabled = true;
+
+        // Bounded by characters held (prompts plus answers) rather than by entry count
+        private long maximumChars = 16_000_000;
+
+        private Duration timeToLive = Duration.ofHours(1);
+
+        private Similarity similarity = new Similarity();
+    }
+
+    /**
+     * Embedding tier: a prompt whose embedding is close enough to a cached prompt's, for the same model and
+     * options, gets that prompt's answer. Costs one embedding call per exact-tier miss.
+     */
+    @Data
+    public static class Similarity {
+        private boolean enabled = false;
+
+        private String embeddingModel = "nomic-embed-text";
+
+        // Cosine similarity at or above which two prompts count as the same question
+        private double threshold = 0.95;
+
+        // Prompts kept for the similarity scan, which is linear in this
+        private int maximumSize = 1000;
+
+        private Duration embeddingTimeout = Duration.ofSeconds(2);
+    }
+
+    /**
+     * v1/chat/players: how many retrieved players may go into the prompt, and how many tokens their records may take.
+     */
+    @Data
+    public static class PlayerContext {
+        private int maxPlayers = 20;
+
+        // Caps prompt size, and with it prompt evaluation time, whatever the question matches
+        private int contextTokenBudget = 1500;
+
+        // Token estimate without a tokenizer; about right for English and digits with Llama-family vocabularies
+        private int charsPerToken = 4;
+
+        private int maxQuestionLength = 1000;
+    }
+}
@@ -0,0 +1,256 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.app.playerservicejava.service.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Answers repeated v1/chat requests without a generation. Three tiers, cheapest first:
+ * <ol>
+ *   <li>exact: same model, options and prompt (surrounding whitespace ignored), with a TTL and a bound on
+ *       characters held</li>
+ *   <li>in flight: an identical request already being generated is joined instead of started again</li>
+ *   <li>similar (off by default): the prompt is embedded and compared with the cached prompts of the same
+ *       model and options; one at or above the cosine threshold lends its answer</li>
+ * </ol>
+ * Options that make answers non-deterministic (a temperature above zero) are part of the key like any other,
+ * so callers who want a fresh answer have to vary them or bypass the cache.
+ */
+@Component
+public class ChatResponseCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChatResponseCache.class);
+
+    private final ChatProperties.ResponseCache properties;
+    private final ChatClientService chatClientService;
+    private final ObjectWriter optionsWriter;
+    private final Cache<String, ChatCompletion> responses;
+    private final Cache<String, SimilarPrompt> prompts;
+    private final SingleFlight<String, ChatCompletion> generations = new SingleFlight<>();
+
+    private final Counter exactHits;
+    private final Counter similarHits;
+    private final Counter misses;
+    private final Counter savedSeconds;
+
+    public ChatResponseCache(ChatProperties properties, ChatClientService chatClientService, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties.getCache();
+        this.chatClientService = chatClientService;
+        // Same options in a different order are the same request
+        this.optionsWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(this.properties.getMaximumChars())
+                .<String, ChatCompletion>weigher((key, completion) -> key.length() + completion.getResponse().length())
+                .expireAfterWrite(this.properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.prompts = Caffeine.newBuilder()
+                .maximumSize(this.properties.getSimilarity().getMaximumSize())
+                .expireAfterWrite(this.properties.getTimeToLive())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "chatResponses");
+        this.exactHits = requestCounter(meterRegistry, "exact");
+        this.similarHits = requestCounter(meterRegistry, "similar");
+        this.misses = requestCounter(meterRegistry, "miss");
+        FunctionCounter.builder("player.chat.cache.coalesced", generations, SingleFlight::getCoalescedCount)
+                .description("Chat requests that joined an identical in-flight generation instead of starting one")
+                .register(meterRegistry);
+        this.savedSeconds = Counter.builder("player.chat.cache.saved.time")
+                .description("Generation time not spent because a request was answered from the cache or a shared generation")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("player.chat.cache.requests")
+                .description("Chat cache lookups by tier that answered them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The answer for {@code request}, from the cache when possible, otherwise from a (possibly shared) generation
+     * whose answer is then cached. Cancelling the returned future stops the generation once no other caller
+     * shares it.
+     *
+     * @throws IllegalArgumentException for an invalid model name or an oversized prompt
+     * @throws ChatException            with 503 when a new generation is needed but the model is at its cap
+     */
+    public CompletableFuture<ChatCompletion> generate(ChatRequest request) {
+        ChatRequest normalized = chatClientService.normalize(request);
+        if (!properties.isEnabled()) {
+            return chatClientService.generate(normalized, null);
+        }
+        String scope = scopeOf(normalized);
+        String key = keyOf(scope, normalized);
+        ChatCompletion cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(hit(exactHits, cached));
+        }
+        boolean[] started = new boolean[1];
+        CompletableFuture<ChatCompletion> result = generations.attach(key, () -> {
+            started[0] = true;
+            return resolve(normalized, scope, key);
+        });
+        if (!started[0]) {
+            result.thenAccept(this::recordSaved);
+        }
+        return result;
+    }
+
+    /**
+     * Exact-tier lookup only, for callers that cannot wait for an embedding (the token stream).
+     */
+    public Optional<ChatCompletion> lookup(ChatRequest normalized) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        ChatCompletion cached = responses.getIfPresent(keyOf(scopeOf(normalized), normalized));
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return Optional.of(hit(exactHits, cached));
+    }
+
+    /**
+     * Caches an answer produced outside {@link #generate} (a streamed generation) in the exact tier.
+     */
+    public void store(ChatRequest normalized, ChatCompletion completion) {
+        if (properties.isEnabled() && completion.getResponse() != null) {
+            responses.put(keyOf(scopeOf(normalized), normalized), completion);
+        }
+    }
+
+    private CompletableFuture<ChatCompletion> resolve(ChatRequest normalized, String scope, String key) {
+        ChatProperties.Similarity similarity = properties.getSimilarity();
+        if (!similarity.isEnabled()) {
+            misses.increment();
+            return generateAndStore(normalized, scope, key, null);
+        }
+        CompletableFuture<float[]> embedding = chatClientService.embed(similarity.getEmbeddingModel(),
+                normalized.getPrompt(), similarity.getEmbeddingTimeout());
+        // The stage a cancellation has to reach: the embedding, then the generation once started. Each side
+        // writes its own variable before reading the other's, so a generation started during the cancel is seen
+        AtomicReference<CompletableFuture<?>> current = new AtomicReference<>(embedding);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletableFuture<ChatCompletion> result = embedding
+                .handle((vector, error) -> {
+                    if (error != null) {
+                        // The similarity tier is an optimization; generate as if it were off
+                        LOGGER.warn("message=Prompt embedding failed, skipping similarity lookup; model={}, error={}",
+                                   similarity.getEmbeddingModel(), error.toString());
+                        return null;
+                    }
+                    return vector;
+                })
+                .thenCompose(vector -> {
+                    SimilarPrompt match = vector == null ? null : nearest(scope, vector, similarity.getThreshold());
+                    if (match != null) {
+                        return CompletableFuture.completedFuture(hit(similarHits, match.completion));
+                    }
+                    misses.increment();
+                    CompletableFuture<ChatCompletion> generation = generateAndStore(normalized, scope, key, vector);
+                    current.set(generation);
+                    if (cancelled.get()) {
+                        generation.cancel(true);
+                    }
+                    return generation;
+                });
+        result.whenComplete((completion, error) -> {
+            if (result.isCancelled()) {
+                cancelled.set(true);
+                current.get().cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<ChatCompletion> generateAndStore(ChatRequest normalized, String scope, String key, float[] embedding) {
+        CompletableFuture<ChatCompletion> generation = chatClientService.generate(normalized, null);
+        return ChatFutures.cancelsUpstream(generation.thenApply(completion -> {
+            responses.put(key, completion);
+            if (embedding != null) {
+                prompts.put(key, new SimilarPrompt(scope, embedding, completion));
+            }
+            return completion;
+        }), generation);
+    }
+
+    // Linear scan; the tier holds at most similarity.maximum-size unit vectors
+    private SimilarPrompt nearest(String scope, float[] embedding, double threshold) {
+        SimilarPrompt best = null;
+        double bestScore = threshold;
+        for (SimilarPrompt candidate : prompts.asMap().values()) {
+            if (!candidate.scope.equals(scope) || candidate.embedding.length != embedding.length) {
+                continue;
+            }
+            double score = 0;
+            for (int i = 0; i < embedding.length; i++) {
+                score += candidate.embedding[i] * embedding[i];
+            }
+            if (score >= bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private ChatCompletion hit(Counter counter, ChatCompletion cached) {
+        counter.increment();
+        recordSaved(cached);
+        return new ChatCompletion(cached.getModel(), cached.getResponse(), cached.getTokens(), cached.getFirstTokenMs(),
+                cached.getTotalMs(), true);
+    }
+
+    private void recordSaved(ChatCompletion completion) {
+        savedSeconds.increment(completion.getTotalMs() / 1000.0);
+    }
+
+    private String scopeOf(ChatRequest normalized) {
+        if (normalized.getOptions() == null) {
+            return normalized.getModel() + "\n{}";
+        }
+        try {
+            return normalized.getModel() + "\n" + optionsWriter.writeValueAsString(normalized.getOptions());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Options are not serializable", e);
+        }
+    }
+
+    private static String keyOf(String scope, ChatRequest normalized) {
+        return scope + "\n" + normalized.getPrompt().strip();
+    }
+
+    private static final class SimilarPrompt {
+        private final String scope;
+        private final float[] embedding;
+        private final ChatCompletion completion;
+
+        private SimilarPrompt(String scope, float[] embedding, ChatCompletion completion) {
+            this.scope = scope;
+            this.embedding = embedding;
+            this.completion = completion;
+        }
+    }
+}
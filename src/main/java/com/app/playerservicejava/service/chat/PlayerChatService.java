@@ -0,0 +1,233 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerChatRequest;
+import com.app.playerservicejava.model.PlayerChatResponse;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.index.PlayerColumnarIndex;
+import com.app.playerservicejava.service.index.PlayerTextIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers questions about players by retrieving their records from the in-memory indexes and putting them in
+ * the prompt. The question is matched against {@link PlayerTextIndex}; a question that matches no names or
+ * places but has filters falls back to {@link PlayerColumnarIndex}. Records are packed best first until the
+ * context token budget is spent, so a broad question costs no more prompt evaluation than a narrow one.
+ * Generation goes through {@link ChatResponseCache}. Retrieval and generation are timed separately.
+ */
+@Service
+public class PlayerChatService {
+
+    static final String NO_MATCH_ANSWER = "No players in the database match the question.";
+
+    private static final String INSTRUCTIONS = "You answer questions about baseball players using only the player "
+            + "records below, one player per line. Heights are in inches and weights in pounds. If the records do not "
+            + "contain the answer, say that you do not know.";
+
+    private final ChatProperties.PlayerContext properties;
+    private final PlayerTextIndex textIndex;
+    private final PlayerColumnarIndex columnarIndex;
+    private final ChatResponseCache chatResponseCache;
+    private final Timer retrievalTimer;
+    private final Timer generationTimer;
+
+    public PlayerChatService(ChatProperties properties, PlayerTextIndex textIndex, PlayerColumnarIndex columnarIndex,
+                             ChatResponseCache chatResponseCache, MeterRegistry meterRegistry) {
+        this.properties = properties.getPlayers();
+        this.textIndex = textIndex;
+        this.columnarIndex = columnarIndex;
+        this.chatResponseCache = chatResponseCache;
+        this.retrievalTimer = phaseTimer(meterRegistry, "retrieval");
+        this.generationTimer = phaseTimer(meterRegistry, "generation");
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("player.chat.players")
+                .description("v1/chat/players latency by phase")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cancelling the returned future stops the generation behind it, as {@link ChatResponseCache#generate} does.
+     *
+     * @throws IllegalArgumentException for a missing or oversized question, or invalid filters or model
+     * @throws ChatException            with 503 when the model is at its concurrency cap
+     */
+    public CompletableFuture<PlayerChatResponse> answer(PlayerChatRequest request) {
+        String question = request.getQuestion() == null ? "" : request.getQuestion().strip();
+        if (question.isEmpty()) {
+            throw new IllegalArgumentException("question is required");
+        }
+        if (question.length() > properties.getMaxQuestionLength()) {
+            throw new IllegalArgumentException("question longer than " + properties.getMaxQuestionLength() + " characters");
+        }
+
+        long start = System.nanoTime();
+        List<Player> retrieved = retrieve(question, request.getFilters());
+        PackedContext context = pack(retrieved, properties.getContextTokenBudget(), properties.getCharsPerToken());
+        long retrievalNanos = System.nanoTime() - start;
+        retrievalTimer.record(retrievalNanos, TimeUnit.NANOSECONDS);
+        long retrievalMicros = TimeUnit.NANOSECONDS.toMicros(retrievalNanos);
+
+        if (context.playerIds.isEmpty()) {
+            // Nothing to ground an answer in; the model would only guess
+            return CompletableFuture.completedFuture(new PlayerChatResponse(NO_MATCH_ANSWER, null, List.of(),
+                    context.dropped, 0, retrievalMicros, 0, false));
+        }
+        String prompt = INSTRUCTIONS + "\n\nPlayer records:\n" + context.records + "\nQuestion: " + question + "\nAnswer:";
+        long generationStart = System.nanoTime();
+        CompletableFuture<ChatCompletion> generation =
+                chatResponseCache.generate(new ChatRequest(request.getModel(), prompt, request.getOptions()));
+        return ChatFutures.cancelsUpstream(generation.thenApply(completion -> {
+            long generationNanos = System.nanoTime() - generationStart;
+            generationTimer.record(generationNanos, TimeUnit.NANOSECONDS);
+            return new PlayerChatResponse(completion.getResponse(), completion.getModel(), context.playerIds,
+                    context.dropped, context.tokens, retrievalMicros,
+                    TimeUnit.NANOSECONDS.toMillis(generationNanos), completion.isCached());
+        }), generation);
+    }
+
+    private List<Player> retrieve(String question, PlayerSearchCriteria filters) {
+        List<Player> players = textIndex.search(question, filters, properties.getMaxPlayers());
+        if (players.isEmpty() && filters != null) {
+            players = columnarIndex.search(columnarCriteria(filters)).getPlayers();
+        }
+        return players;
+    }
+
+    // A copy, so the caller's request object is not changed behind its back
+    private PlayerSearchCriteria columnarCriteria(PlayerSearchCriteria filters) {
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria();
+        criteria.setBirthCountries(filters.getBirthCountries());
+        criteria.setBirthStates(filters.getBirthStates());
+        criteria.setBats(filters.getBats());
+        criteria.setThrowStats(filters.getThrowStats());
+        criteria.setMinBirthYear(filters.getMinBirthYear());
+        criteria.setMaxBirthYear(filters.getMaxBirthYear());
+        criteria.setDebutFrom(filters.getDebutFrom());
+        criteria.setDebutTo(filters.getDebutTo());
+        criteria.setMinWeight(filters.getMinWeight());
+        criteria.setMaxWeight(filters.getMaxWeight());
+        criteria.setMinHeight(filters.getMinHeight());
+        criteria.setMaxHeight(filters.getMaxHeight());
+        if (filters.getSortBy() != null) {
+            criteria.setSortBy(filters.getSortBy());
+        }
+        criteria.setSortDirection(filters.getSortDirection());
+        criteria.setLimit(properties.getMaxPlayers());
+        return criteria;
+    }
+
+    /**
+     * Records of {@code players} in order until the next one would exceed {@code tokenBudget}; the rest are
+     * dropped rather than skipped so the most relevant players always make it in.
+     */
+    static PackedContext pack(List<Player> players, int tokenBudget, int charsPerToken) {
+        StringBuilder records = new StringBuilder();
+        List<String> playerIds = new ArrayList<>(players.size());
+        int tokens = 0;
+        for (Player player : players) {
+            String record = describe(player);
+            int recordTokens = (record.length() + 1 + charsPerToken - 1) / charsPerToken;
+            if (tokens + recordTokens > tokenBudget) {
+                break;
+            }
+            records.append(record).append('\n');
+            playerIds.add(player.getPlayerId());
+            tokens += recordTokens;
+        }
+        return new PackedContext(records.toString(), playerIds, tokens, players.size() - playerIds.size());
+    }
+
+    /**
+     * One line per player with only the fields that are set.
+     */
+    static String describe(Player player) {
+        StringBuilder line = new StringBuilder(160).append(player.getPlayerId()).append(':');
+        String name = join(" ", player.getFirstName(), player.getLastName());
+        if (!name.isEmpty()) {
+            line.append(' ').append(name);
+        }
+        if (player.getGivenName() != null && !player.getGivenName().isEmpty()) {
+            line.append(" (").append(player.getGivenName()).append(')');
+        }
+        appendEvent(line, "born", player.getBirthYear(), player.getBirthMonth(), player.getBirthDay(),
+                player.getBirthCity(), player.getBirthState(), player.getBirthCountry());
+        appendEvent(line, "died", player.getDeathYear(), player.getDeathMonth(), player.getDeathDay(),
+                player.getDeathCity(), player.getDeathState(), player.getDeathCountry());
+        String handedness = join(", ", player.getBats() == null ? null : "bats " + player.getBats(),
+                player.getThrowStats() == null ? null : "throws " + player.getThrowStats());
+        if (!handedness.isEmpty()) {
+            line.append("; ").append(handedness);
+        }
+        String size = join(", ", player.getHeight() == null ? null : player.getHeight() + " in",
+                player.getWeight() == null ? null : player.getWeight() + " lb");
+        if (!size.isEmpty()) {
+            line.append("; ").append(size);
+        }
+        String career = join(", ", player.getDebut() == null ? null : "debut " + player.getDebut(),
+                player.getFinalGame() == null ? null : "final game " + player.getFinalGame());
+        if (!career.isEmpty()) {
+            line.append("; ").append(career);
+        }
+        return line.toString();
+    }
+
+    private static void appendEvent(StringBuilder line, String label, Integer year, Integer month, Integer day,
+                                    String city, String state, String country) {
+        String place = join(", ", city, state, country);
+        if (year == null && place.isEmpty()) {
+            return;
+        }
+        line.append("; ").append(label);
+        if (year != null) {
+            line.append(' ').append(year);
+            if (month != null) {
+                line.append('-').append(month);
+                if (day != null) {
+                    line.append('-').append(day);
+                }
+            }
+        }
+        if (!place.isEmpty()) {
+            line.append(" in ").append(place);
+        }
+    }
+
+    private static String join(String separator, String... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (String part : parts) {
+            if (part != null && !part.isEmpty()) {
+                if (joined.length() > 0) {
+                    joined.append(separator);
+                }
+                joined.append(part);
+            }
+        }
+        return joined.toString();
+    }
+
+    static final class PackedContext {
+        final String records;
+        final List<String> playerIds;
+        final int tokens;
+        final int dropped;
+
+        PackedContext(String records, List<String> playerIds, int tokens, int dropped) {
+            this.records = records;
+            this.playerIds = playerIds;
+            this.tokens = tokens;
+            this.dropped = dropped;
+        }
+    }
+}
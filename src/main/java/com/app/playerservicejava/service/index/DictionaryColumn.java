@@ -0,0 +1,72 @@
+package com.app.playerservicejava.service.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary-encoded string column: each distinct value gets an int code, rows store codes, and every
+ * code owns a bitmap of the rows holding it. Not thread-safe; callers guard it with their own lock.
+ */
+final class DictionaryColumn {
+
+    private static final int NO_VALUE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<BitSet> bitmaps = new ArrayList<>();
+    private int[] rowCodes;
+
+    DictionaryColumn(int capacity) {
+        this.rowCodes = new int[capacity];
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity > rowCodes.length) {
+            rowCodes = Arrays.copyOf(rowCodes, Math.max(capacity, rowCodes.length * 2));
+        }
+    }
+
+    /**
+     * Sets the value of a row; {@code replacing} must be true when the row already holds a value.
+     */
+    void set(int row, String value, boolean replacing) {
+        if (replacing && rowCodes[row] != NO_VALUE) {
+            bitmaps.get(rowCodes[row]).clear(row);
+        }
+        String present = PlayerFilter.present(value);
+        int code = present == null ? NO_VALUE : codes.computeIfAbsent(present, this::newCode);
+        rowCodes[row] = code;
+        if (code != NO_VALUE) {
+            bitmaps.get(code).set(row);
+        }
+    }
+
+    /**
+     * Rows whose value equals any of the given values.
+     */
+    BitSet rowsMatchingAny(Collection<String> wanted) {
+        BitSet rows = new BitSet();
+        for (String value : wanted) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                rows.or(bitmaps.get(code));
+            }
+        }
+        return rows;
+    }
+
+    int distinctValues() {
+        return values.size();
+    }
+
+    private int newCode(String value) {
+        values.add(value);
+        bitmaps.add(new BitSet());
+        return values.size() - 1;
+    }
+}
@@ -0,0 +1,179 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.model.PlayerSearchResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory columnar copy of the PLAYERS table for filtered search without touching the database.
+ *
+ * Low-cardinality strings (birth country/state, bats, throws) are dictionary-encoded with a bitmap per
+ * value; years, weight, height and debut (as epoch day) live in primitive int arrays. A search ANDs the
+ * bitmaps, applies the ranges in one pass over the surviving rows and keeps the top K with a bounded heap.
+ * Loaded once at startup and kept current from {@link PlayersChangedEvent}.
+ */
+@Service
+public class PlayerColumnarIndex extends PlayerRowIndex {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final DictionaryColumn birthCountries = new DictionaryColumn(INITIAL_CAPACITY);
+    private final DictionaryColumn birthStates = new DictionaryColumn(INITIAL_CAPACITY);
+    private final DictionaryColumn bats = new DictionaryColumn(INITIAL_CAPACITY);
+    private final DictionaryColumn throwStats = new DictionaryColumn(INITIAL_CAPACITY);
+    private Player[] players = new Player[INITIAL_CAPACITY];
+    private int[] birthYears = new int[INITIAL_CAPACITY];
+    private int[] weights = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] debutDays = new int[INITIAL_CAPACITY];
+
+    /**
+     * @throws IllegalArgumentException for an unknown sortBy or sortDirection
+     */
+    public PlayerSearchResponse search(PlayerSearchCriteria criteria) {
+        long start = System.nanoTime();
+        String sortBy = criteria.getSortBy() == null ? "playerId" : criteria.getSortBy();
+        // Same parsing as the offset and keyset endpoints, so "dsc" is rejected rather than sorted ascending
+        boolean ascending = criteria.getSortDirection() == null
+                || Sort.Direction.fromString(criteria.getSortDirection()).isAscending();
+        int limit = Math.max(1, Math.min(MAX_LIMIT, criteria.getLimit()));
+
+        lock.readLock().lock();
+        try {
+            Comparator<Integer> order = rowOrder(sortBy, ascending);
+
+            PlayerFilter filter = PlayerFilter.of(criteria);
+            BitSet matches = new BitSet(size);
+            matches.set(0, size);
+            filter(matches, birthCountries, filter.birthCountries);
+            filter(matches, birthStates, filter.birthStates);
+            filter(matches, bats, filter.bats);
+            filter(matches, throwStats, filter.throwStats);
+            applyRanges(matches, filter);
+
+            int totalMatches = matches.cardinality();
+            List<Player> result = new ArrayList<>(Math.min(limit, totalMatches));
+            for (int row : topRows(matches, order, limit)) {
+                result.add(players[row]);
+            }
+            return new PlayerSearchResponse(result, totalMatches, limit, sortBy, ascending ? "asc" : "desc",
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected String describe() {
+        return "birthCountries=" + birthCountries.distinctValues() + ", birthStates=" + birthStates.distinctValues();
+    }
+
+    @Override
+    protected void set(int row, Player player, boolean replacing) {
+        players[row] = player;
+        birthYears[row] = PlayerFilter.toInt(player.getBirthYear());
+        weights[row] = PlayerFilter.toInt(player.getWeight());
+        heights[row] = PlayerFilter.toInt(player.getHeight());
+        debutDays[row] = PlayerFilter.toEpochDay(player.getDebut());
+        birthCountries.set(row, player.getBirthCountry(), replacing);
+        birthStates.set(row, player.getBirthState(), replacing);
+        bats.set(row, player.getBats(), replacing);
+        throwStats.set(row, player.getThrowStats(), replacing);
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        players = Arrays.copyOf(players, capacity);
+        birthYears = Arrays.copyOf(birthYears, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        debutDays = Arrays.copyOf(debutDays, capacity);
+        birthCountries.ensureCapacity(capacity);
+        birthStates.ensureCapacity(capacity);
+        bats.ensureCapacity(capacity);
+        throwStats.ensureCapacity(capacity);
+    }
+
+    // The bitmap form of PlayerFilter's list filters
+    private static void filter(BitSet matches, DictionaryColumn column, List<String> wanted) {
+        if (wanted != null) {
+            matches.and(column.rowsMatchingAny(wanted));
+        }
+    }
+
+    private void applyRanges(BitSet matches, PlayerFilter filter) {
+        if (!filter.hasRanges()) {
+            return;
+        }
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            if (!filter.inRanges(birthYears[row], weights[row], heights[row], debutDays[row])) {
+                matches.clear(row);
+            }
+        }
+    }
+
+    /**
+     * Orders rows by the sort column (missing values last in either direction), then by playerId.
+     */
+    private Comparator<Integer> rowOrder(String sortBy, boolean ascending) {
+        Player[] rows = players;
+        Comparator<Integer> byPlayerId = Comparator.comparing(row -> rows[row].getPlayerId());
+        int[] column;
+        switch (sortBy) {
+            case "playerId":
+                return ascending ? byPlayerId : byPlayerId.reversed();
+            case "birthYear":
+                column = birthYears;
+                break;
+            case "weight":
+                column = weights;
+                break;
+            case "height":
+                column = heights;
+                break;
+            case "debut":
+                column = debutDays;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported sortBy for search: " + sortBy);
+        }
+        Comparator<Integer> byValue = (a, b) -> {
+            int left = column[a];
+            int right = column[b];
+            if (left == PlayerFilter.MISSING || right == PlayerFilter.MISSING) {
+                return Boolean.compare(left == PlayerFilter.MISSING, right == PlayerFilter.MISSING);
+            }
+            return ascending ? Integer.compare(left, right) : Integer.compare(right, left);
+        };
+        return byValue.thenComparing(byPlayerId);
+    }
+
+    /**
+     * Best {@code limit} rows in order, using a bounded max-heap so the cost is O(n log k).
+     */
+    private static int[] topRows(BitSet matches, Comparator<Integer> order, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            heap.offer(row);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return top;
+    }
+}
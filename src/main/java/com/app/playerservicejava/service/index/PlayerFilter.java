@@ -0,0 +1,120 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The filters of a {@link PlayerSearchCriteria} as the indexes evaluate them, so {@link PlayerColumnarIndex}
+ * and {@link PlayerTextIndex} agree on what matches: values within a list OR-ed, filters AND-ed, inclusive
+ * ranges, and a missing value never matches a range or a list. An empty string is a missing value, on the
+ * player and in the filter alike. Numbers are ints with {@link #MISSING} for null and dates are epoch days,
+ * the representation of the columnar index.
+ */
+final class PlayerFilter {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private static final PlayerFilter NONE = new PlayerFilter(new PlayerSearchCriteria());
+
+    // Null when that column is not filtered; empty when it is, but only with missing values, so nothing matches
+    final List<String> birthCountries;
+    final List<String> birthStates;
+    final List<String> bats;
+    final List<String> throwStats;
+
+    private final Integer minBirthYear;
+    private final Integer maxBirthYear;
+    private final Integer minWeight;
+    private final Integer maxWeight;
+    private final Integer minHeight;
+    private final Integer maxHeight;
+    private final Integer debutFrom;
+    private final Integer debutTo;
+
+    private PlayerFilter(PlayerSearchCriteria criteria) {
+        birthCountries = valuesOf(criteria.getBirthCountries());
+        birthStates = valuesOf(criteria.getBirthStates());
+        bats = valuesOf(criteria.getBats());
+        throwStats = valuesOf(criteria.getThrowStats());
+        minBirthYear = criteria.getMinBirthYear();
+        maxBirthYear = criteria.getMaxBirthYear();
+        minWeight = criteria.getMinWeight();
+        maxWeight = criteria.getMaxWeight();
+        minHeight = criteria.getMinHeight();
+        maxHeight = criteria.getMaxHeight();
+        debutFrom = criteria.getDebutFrom() == null ? null : toEpochDay(criteria.getDebutFrom());
+        debutTo = criteria.getDebutTo() == null ? null : toEpochDay(criteria.getDebutTo());
+    }
+
+    /**
+     * The filter of {@code criteria}; null criteria match every player.
+     */
+    static PlayerFilter of(PlayerSearchCriteria criteria) {
+        return criteria == null ? NONE : new PlayerFilter(criteria);
+    }
+
+    boolean hasRanges() {
+        return minBirthYear != null || maxBirthYear != null || minWeight != null || maxWeight != null
+                || minHeight != null || maxHeight != null || debutFrom != null || debutTo != null;
+    }
+
+    /**
+     * Whether the range filters accept these column values.
+     */
+    boolean inRanges(int birthYear, int weight, int height, int debutDay) {
+        return inRange(birthYear, minBirthYear, maxBirthYear)
+                && inRange(weight, minWeight, maxWeight)
+                && inRange(height, minHeight, maxHeight)
+                && inRange(debutDay, debutFrom, debutTo);
+    }
+
+    boolean matches(Player player) {
+        return anyOf(birthCountries, player.getBirthCountry())
+                && anyOf(birthStates, player.getBirthState())
+                && anyOf(bats, player.getBats())
+                && anyOf(throwStats, player.getThrowStats())
+                && inRanges(toInt(player.getBirthYear()), toInt(player.getWeight()), toInt(player.getHeight()),
+                        toEpochDay(player.getDebut()));
+    }
+
+    /**
+     * The value as the indexes store it: null for a missing value, which includes the empty string.
+     */
+    static String present(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    static int toInt(Integer value) {
+        return value == null ? MISSING : value;
+    }
+
+    static int toEpochDay(LocalDate value) {
+        return value == null ? MISSING : (int) value.toEpochDay();
+    }
+
+    private static List<String> valuesOf(List<String> wanted) {
+        if (wanted == null || wanted.isEmpty()) {
+            return null;
+        }
+        return wanted.stream().map(PlayerFilter::present).filter(Objects::nonNull).toList();
+    }
+
+    private static boolean anyOf(List<String> wanted, String value) {
+        if (wanted == null) {
+            return true;
+        }
+        String present = present(value);
+        return present != null && wanted.contains(present);
+    }
+
+    private static boolean inRange(int value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != MISSING && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
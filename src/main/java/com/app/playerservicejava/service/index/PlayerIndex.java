@@ -0,0 +1,57 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory structure derived from the PLAYERS table. {@link PlayerIndexLoader} fills every index from a single
+ * pass over the table at startup; afterwards each {@link PlayersChangedEvent} is applied here. All writes happen
+ * under the write lock of {@link #lock}; subclasses read under its read lock.
+ */
+public abstract class PlayerIndex {
+
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener
+    public void onPlayersChanged(PlayersChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getPlayers().forEach(this::upsert);
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a player or replaces the one with the same playerId.
+     */
+    protected abstract void upsert(Player player);
+
+    /**
+     * Called once a {@link PlayersChangedEvent} has been applied.
+     */
+    protected void changed() {
+    }
+
+    /**
+     * Startup load, called for every player of the table and followed by {@link #loaded()}.
+     */
+    protected void load(Player player) {
+        upsert(player);
+    }
+
+    protected void loaded() {
+    }
+
+    /**
+     * Sizes worth a mention in the startup log line, e.g. {@code "terms=12000"}; empty for none.
+     */
+    protected String describe() {
+        return "";
+    }
+}
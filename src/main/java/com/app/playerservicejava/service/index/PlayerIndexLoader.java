@@ -0,0 +1,54 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.service.PlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads every {@link PlayerIndex} at startup from one pass over PLAYERS, after all singletons exist and before
+ * the web server takes traffic, instead of each index streaming the table on its own.
+ */
+@Component
+public class PlayerIndexLoader implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerIndexLoader.class);
+
+    private final PlayerService playerService;
+    private final List<PlayerIndex> indexes;
+
+    public PlayerIndexLoader(PlayerService playerService, List<PlayerIndex> indexes) {
+        this.playerService = playerService;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        long rows;
+        StringJoiner loaded = new StringJoiner(", ");
+        // All write locks are held for the whole pass, so a change published meanwhile is applied after the
+        // load instead of being overwritten by it. Nothing else ever holds two of them.
+        indexes.forEach(index -> index.lock.writeLock().lock());
+        try {
+            rows = playerService.streamPlayers(player -> {
+                for (PlayerIndex index : indexes) {
+                    index.load(player);
+                }
+            });
+            for (PlayerIndex index : indexes) {
+                index.loaded();
+                String description = index.describe();
+                loaded.add(index.getClass().getSimpleName() + (description.isEmpty() ? "" : "(" + description + ")"));
+            }
+        } finally {
+            indexes.forEach(index -> index.lock.writeLock().unlock());
+        }
+        LOGGER.info("message=Player indexes loaded; rows={}, indexes=[{}], tookMs={}",
+                   rows, loaded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,346 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerNameMatch;
+import com.app.playerservicejava.model.PlayerNameSearchResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory name search over firstName, lastName and givenName for autocomplete and typo-tolerant lookup.
+ *
+ * Names are split into terms that are lower-cased and stripped of accents and punctuation ("O'Neill" is
+ * "oneill"). Terms live in a sorted dictionary, so the terms starting with a prefix are one range scan. Each
+ * term also has its trigrams indexed; a fuzzy query only computes edit distances (with transpositions) for
+ * the terms that share enough trigrams with it.
+ *
+ * Every query word has to match one of a player's name terms. All words but the last must match a whole term,
+ * exactly or within the edit distance; the last may also be a prefix of one, so "aaron h" finds Hank Aaron
+ * while it is being typed. Exact matches outrank prefix matches, which outrank fuzzy ones; last names count
+ * more than first names, and given names least. Loaded at startup and kept current from
+ * {@link PlayersChangedEvent}.
+ */
+@Service
+public class PlayerNameIndex extends PlayerRowIndex {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    // Field bits in a posting's mask
+    private static final int LAST_NAME = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int GIVEN_NAME = 4;
+
+    private static final float EXACT_SCORE = 1.0f;
+    private static final float FUZZY_SCORE = 0.7f;
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9\\s]");
+
+    // Term -> rows with a mask of the name fields the term appears in
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private Player[] players = new Player[INITIAL_CAPACITY];
+    private String[][] rowTerms = new String[INITIAL_CAPACITY][];
+
+    /**
+     * Best {@code limit} players for {@code query}; with {@code fuzzy} off only exact and prefix matches count.
+     *
+     * @throws IllegalArgumentException for a query longer than any name
+     */
+    public PlayerNameSearchResponse search(String query, int limit, boolean fuzzy) {
+        if (query != null && query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("query longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        long start = System.nanoTime();
+        int boundedLimit = Math.max(1, Math.min(MAX_LIMIT, limit));
+        List<String> words = terms(query);
+        List<PlayerNameMatch> matches = new ArrayList<>();
+        if (!words.isEmpty()) {
+            lock.readLock().lock();
+            try {
+                Map<Integer, Match> candidates = null;
+                for (int i = 0; i < words.size() && (candidates == null || !candidates.isEmpty()); i++) {
+                    Map<Integer, Match> wordMatches = matchWord(words.get(i), i == words.size() - 1, fuzzy, boundedLimit);
+                    candidates = candidates == null ? wordMatches : intersect(candidates, wordMatches);
+                }
+                for (Map.Entry<Integer, Match> entry : top(candidates, boundedLimit)) {
+                    Player player = players[entry.getKey()];
+                    matches.add(new PlayerNameMatch(player.getPlayerId(), player.getFirstName(), player.getLastName(),
+                            player.getGivenName(), entry.getValue().score, entry.getValue().fuzzy));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return new PlayerNameSearchResponse(query, matches, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+    }
+
+    @Override
+    protected String describe() {
+        return "terms=" + terms.size() + ", trigrams=" + termsByTrigram.size();
+    }
+
+    /**
+     * Terms of a name or query: accents and punctuation removed, lower-cased, split on whitespace.
+     */
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String cleaned = NON_ALPHANUMERIC.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+        List<String> result = new ArrayList<>();
+        for (String term : cleaned.split("\\s+")) {
+            if (!term.isEmpty()) {
+                result.add(term);
+            }
+        }
+        return result;
+    }
+
+    private Map<Integer, Match> matchWord(String word, boolean prefix, boolean fuzzy, int limit) {
+        Map<Integer, Match> matches = new HashMap<>();
+        if (prefix) {
+            for (Map.Entry<String, Postings> entry : terms.subMap(word, true, word + Character.MAX_VALUE, false).entrySet()) {
+                String term = entry.getKey();
+                // Completing more of the term scores closer to an exact match
+                float score = term.length() == word.length()
+                        ? EXACT_SCORE : 0.6f + 0.3f * word.length() / term.length();
+                addPostings(matches, entry.getValue(), score, false);
+            }
+        } else {
+            Postings exact = terms.get(word);
+            if (exact != null) {
+                addPostings(matches, exact, EXACT_SCORE, false);
+            }
+        }
+        int maxDistance = maxEditDistance(word);
+        if (fuzzy && maxDistance > 0 && matches.size() < limit) {
+            for (String term : fuzzyCandidates(word, maxDistance)) {
+                int distance = editDistance(word, term, maxDistance);
+                if (distance > 0 && distance <= maxDistance) {
+                    addPostings(matches, terms.get(term), FUZZY_SCORE - 0.15f * (distance - 1), true);
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Short words get no typo allowance: at three letters one edit already matches half the dictionary
+    private static int maxEditDistance(String word) {
+        return word.length() < 4 ? 0 : word.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Terms sharing at least as many trigrams with {@code word} as {@code maxDistance} edits can leave. An
+     * insertion, deletion or substitution destroys at most three; swapping two adjacent letters destroys up
+     * to four ("mcgiwre" keeps only "$mc", "mcg" and "re$" of "mcgwire"), so four per edit is the bound.
+     */
+    private List<String> fuzzyCandidates(String word, int maxDistance) {
+        List<String> grams = trigrams(word);
+        int required = Math.max(1, grams.size() - 4 * maxDistance);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> containing = termsByTrigram.get(gram);
+            if (containing != null) {
+                for (String term : containing) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            if (entry.getValue() >= required && Math.abs(entry.getKey().length() - word.length()) <= maxDistance) {
+                candidates.add(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    private static void addPostings(Map<Integer, Match> matches, Postings postings, float score, boolean fuzzy) {
+        for (int i = 0; i < postings.count; i++) {
+            float weighted = score * fieldWeight(postings.values[i]);
+            Match existing = matches.get(postings.rows[i]);
+            if (existing == null || existing.score < weighted) {
+                matches.put(postings.rows[i], new Match(weighted, fuzzy));
+            }
+        }
+    }
+
+    private static float fieldWeight(int fields) {
+        if ((fields & LAST_NAME) != 0) {
+            return 1.0f;
+        }
+        return (fields & FIRST_NAME) != 0 ? 0.8f : 0.5f;
+    }
+
+    private static Map<Integer, Match> intersect(Map<Integer, Match> left, Map<Integer, Match> right) {
+        Map<Integer, Match> smaller = left.size() <= right.size() ? left : right;
+        Map<Integer, Match> larger = smaller == left ? right : left;
+        Map<Integer, Match> result = new HashMap<>();
+        for (Map.Entry<Integer, Match> entry : smaller.entrySet()) {
+            Match other = larger.get(entry.getKey());
+            if (other != null) {
+                result.put(entry.getKey(), new Match(entry.getValue().score + other.score,
+                        entry.getValue().fuzzy || other.fuzzy));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Highest scores first, then by last name, first name and playerId; bounded heap, O(n log k).
+     */
+    private List<Map.Entry<Integer, Match>> top(Map<Integer, Match> candidates, int limit) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        Player[] rows = players;
+        Comparator<Map.Entry<Integer, Match>> order = Comparator
+                .<Map.Entry<Integer, Match>>comparingDouble(entry -> -entry.getValue().score)
+                .thenComparing(entry -> rows[entry.getKey()].getLastName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(entry -> rows[entry.getKey()].getFirstName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(entry -> rows[entry.getKey()].getPlayerId());
+        PriorityQueue<Map.Entry<Integer, Match>> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Map.Entry<Integer, Match> entry : candidates.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Integer, Match>> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        result.sort(order);
+        return result;
+    }
+
+    @Override
+    protected void set(int row, Player player, boolean replacing) {
+        if (replacing) {
+            for (String term : rowTerms[row]) {
+                Postings postings = terms.get(term);
+                postings.remove(row);
+                if (postings.count == 0) {
+                    terms.remove(term);
+                    for (String gram : trigrams(term)) {
+                        Set<String> containing = termsByTrigram.get(gram);
+                        containing.remove(term);
+                        if (containing.isEmpty()) {
+                            termsByTrigram.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+        players[row] = player;
+
+        Map<String, Integer> fieldsByTerm = new HashMap<>();
+        addField(fieldsByTerm, player.getLastName(), LAST_NAME);
+        addField(fieldsByTerm, player.getFirstName(), FIRST_NAME);
+        addField(fieldsByTerm, player.getGivenName(), GIVEN_NAME);
+        String[] indexed = new String[fieldsByTerm.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : fieldsByTerm.entrySet()) {
+            String term = entry.getKey();
+            Postings postings = terms.get(term);
+            if (postings == null) {
+                postings = new Postings();
+                terms.put(term, postings);
+                for (String gram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                }
+            }
+            postings.add(row, entry.getValue());
+            indexed[i++] = term;
+        }
+        rowTerms[row] = indexed;
+    }
+
+    private static void addField(Map<String, Integer> fieldsByTerm, String value, int field) {
+        for (String term : terms(value)) {
+            fieldsByTerm.merge(term, field, (a, b) -> a | b);
+        }
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        players = Arrays.copyOf(players, capacity);
+        rowTerms = Arrays.copyOf(rowTerms, capacity);
+    }
+
+    // Padded so the first and last letters get grams of their own: "ruth" -> "$ru", "rut", "uth", "th$"
+    private static List<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions), giving up with
+     * {@code max + 1} as soon as no alignment can stay within {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static final class Match {
+        private final float score;
+        private final boolean fuzzy;
+
+        private Match(float score, boolean fuzzy) {
+            this.score = score;
+            this.fuzzy = fuzzy;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link PlayerIndex} that keeps its data in parallel arrays with one row per player. A player keeps its row
+ * for good, new players are appended, and subclasses grow their arrays when told to.
+ */
+public abstract class PlayerRowIndex extends PlayerIndex {
+
+    protected static final int INITIAL_CAPACITY = 1 << 15;
+
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private int capacity = INITIAL_CAPACITY;
+    // Rows in use; only upsert changes it
+    protected int size;
+
+    @Override
+    protected final void upsert(Player player) {
+        Integer existing = rowsById.get(player.getPlayerId());
+        if (existing != null) {
+            set(existing, player, true);
+            return;
+        }
+        int row = size++;
+        if (size > capacity) {
+            capacity = Math.max(size, capacity * 2);
+            grow(capacity);
+        }
+        rowsById.put(player.getPlayerId(), row);
+        set(row, player, false);
+    }
+
+    /**
+     * Writes a player into its row; {@code replacing} is true when the row held the player before.
+     */
+    protected abstract void set(int row, Player player, boolean replacing);
+
+    /**
+     * Grows every per-row array to {@code capacity}, keeping the rows in use.
+     */
+    protected abstract void grow(int capacity);
+
+    /**
+     * Row of a player, or null when it is not indexed; callers hold the lock.
+     */
+    protected final Integer rowOf(String playerId) {
+        return rowsById.get(playerId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
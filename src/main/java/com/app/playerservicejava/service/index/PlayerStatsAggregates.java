@@ -0,0 +1,268 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerEraStats;
+import com.app.playerservicejava.model.PlayerStatsResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Materialized dashboard aggregates over PLAYERS: counts by birth country, birth state, debut decade and
+ * bats/throws, and average height and weight per debut decade.
+ *
+ * Built once at startup by splitting the rows into partitions that are aggregated in parallel on the common
+ * fork-join pool and merged pairwise. Afterwards each {@link PlayersChangedEvent} is applied as a delta: the
+ * player's previous contribution is subtracted and the new one added, so a save costs a few map updates no
+ * matter how many players there are. The contribution of every player is kept for that. Averages are kept
+ * as sums and counts so deltas stay exact.
+ */
+@Service
+public class PlayerStatsAggregates extends PlayerIndex {
+
+    static final String UNKNOWN = "unknown";
+
+    // Rows a fork-join task aggregates itself instead of splitting further
+    private static final int PARTITION_SIZE = 2048;
+
+    private final Map<String, Contribution> contributionsById = new HashMap<>();
+    private Totals totals = new Totals();
+    private long version;
+    private Instant builtAt = Instant.now();
+    private Instant updatedAt = builtAt;
+    // Rebuilt on the first read after a change; readers share it until then
+    private volatile PlayerStatsResponse snapshot;
+    // Rows collected by the startup load for the parallel build
+    private List<Player> loading = new ArrayList<>();
+
+    @Override
+    protected void load(Player player) {
+        loading.add(player);
+    }
+
+    @Override
+    protected void loaded() {
+        build(loading);
+        loading = new ArrayList<>();
+    }
+
+    @Override
+    protected String describe() {
+        return "partitions=" + (contributionsById.size() + PARTITION_SIZE - 1) / PARTITION_SIZE;
+    }
+
+    @Override
+    protected void upsert(Player player) {
+        Contribution current = Contribution.of(player);
+        Contribution previous = contributionsById.put(player.getPlayerId(), current);
+        if (previous != null) {
+            totals.apply(previous, -1);
+        }
+        totals.apply(current, 1);
+    }
+
+    @Override
+    protected void changed() {
+        version++;
+        updatedAt = Instant.now();
+        snapshot = null;
+    }
+
+    /**
+     * The aggregates as of the last applied change, with that change's version and time.
+     */
+    public PlayerStatsResponse snapshot() {
+        PlayerStatsResponse current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            // Concurrent readers may each build one; they are equal and the last one wins
+            current = totals.toResponse(version, builtAt, updatedAt);
+            snapshot = current;
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the aggregates with those of {@code players}; callers hold the write lock.
+     */
+    void build(List<Player> players) {
+        Contribution[] contributions = new Contribution[players.size()];
+        totals = ForkJoinPool.commonPool().invoke(new PartitionTask(players, contributions, 0, players.size()));
+        contributionsById.clear();
+        for (Contribution contribution : contributions) {
+            contributionsById.put(contribution.playerId, contribution);
+        }
+        version = 0;
+        builtAt = Instant.now();
+        updatedAt = builtAt;
+        snapshot = null;
+    }
+
+    static String decadeOf(Player player) {
+        return player.getDebut() == null ? UNKNOWN : (player.getDebut().getYear() / 10 * 10) + "s";
+    }
+
+    /**
+     * Aggregates rows [from, to) into a fresh {@link Totals}, splitting in halves down to
+     * {@link #PARTITION_SIZE}. Each task writes only its own slots of {@code contributions}.
+     */
+    private static final class PartitionTask extends RecursiveTask<Totals> {
+        private final List<Player> players;
+        private final Contribution[] contributions;
+        private final int from;
+        private final int to;
+
+        private PartitionTask(List<Player> players, Contribution[] contributions, int from, int to) {
+            this.players = players;
+            this.contributions = contributions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= PARTITION_SIZE) {
+                Totals partition = new Totals();
+                for (int i = from; i < to; i++) {
+                    contributions[i] = Contribution.of(players.get(i));
+                    partition.apply(contributions[i], 1);
+                }
+                return partition;
+            }
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(players, contributions, from, middle);
+            left.fork();
+            Totals right = new PartitionTask(players, contributions, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * What one player adds to the aggregates; missing values are {@link #UNKNOWN} or null.
+     */
+    private static final class Contribution {
+        private final String playerId;
+        private final String birthCountry;
+        private final String birthState;
+        private final String decade;
+        private final String handedness;
+        private final Integer height;
+        private final Integer weight;
+
+        private Contribution(String playerId, String birthCountry, String birthState, String decade,
+                             String handedness, Integer height, Integer weight) {
+            this.playerId = playerId;
+            this.birthCountry = birthCountry;
+            this.birthState = birthState;
+            this.decade = decade;
+            this.handedness = handedness;
+            this.height = height;
+            this.weight = weight;
+        }
+
+        private static Contribution of(Player player) {
+            return new Contribution(player.getPlayerId(), orUnknown(player.getBirthCountry()),
+                    orUnknown(player.getBirthState()), decadeOf(player),
+                    orUnknown(player.getBats()) + "/" + orUnknown(player.getThrowStats()),
+                    player.getHeight(), player.getWeight());
+        }
+
+        private static String orUnknown(String value) {
+            return value == null || value.isEmpty() ? UNKNOWN : value;
+        }
+    }
+
+    /**
+     * Mutable sums behind the aggregates; keys whose count drops to zero are removed.
+     */
+    private static final class Totals {
+        private long players;
+        private final Map<String, Long> birthCountries = new HashMap<>();
+        private final Map<String, Long> birthStates = new HashMap<>();
+        private final Map<String, Long> debutDecades = new HashMap<>();
+        private final Map<String, Long> handedness = new HashMap<>();
+        private final Map<String, EraTotals> eras = new HashMap<>();
+
+        private void apply(Contribution contribution, int sign) {
+            players += sign;
+            add(birthCountries, contribution.birthCountry, sign);
+            add(birthStates, contribution.birthState, sign);
+            add(debutDecades, contribution.decade, sign);
+            add(handedness, contribution.handedness, sign);
+            EraTotals era = eras.computeIfAbsent(contribution.decade, decade -> new EraTotals());
+            era.apply(contribution, sign);
+            if (era.players == 0) {
+                eras.remove(contribution.decade);
+            }
+        }
+
+        private static void add(Map<String, Long> counts, String key, long delta) {
+            counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        private Totals merge(Totals other) {
+            players += other.players;
+            other.birthCountries.forEach((key, count) -> add(birthCountries, key, count));
+            other.birthStates.forEach((key, count) -> add(birthStates, key, count));
+            other.debutDecades.forEach((key, count) -> add(debutDecades, key, count));
+            other.handedness.forEach((key, count) -> add(handedness, key, count));
+            other.eras.forEach((key, era) -> eras.merge(key, era, EraTotals::merge));
+            return this;
+        }
+
+        private PlayerStatsResponse toResponse(long version, Instant builtAt, Instant updatedAt) {
+            Map<String, PlayerEraStats> eraStats = new TreeMap<>();
+            eras.forEach((decade, era) -> eraStats.put(decade, era.toStats()));
+            return new PlayerStatsResponse(version, builtAt, updatedAt, players, new TreeMap<>(birthCountries),
+                    new TreeMap<>(birthStates), new TreeMap<>(debutDecades), new TreeMap<>(handedness), eraStats);
+        }
+    }
+
+    private static final class EraTotals {
+        private long players;
+        private long heightCount;
+        private long heightSum;
+        private long weightCount;
+        private long weightSum;
+
+        private void apply(Contribution contribution, int sign) {
+            players += sign;
+            if (contribution.height != null) {
+                heightCount += sign;
+                heightSum += (long) sign * contribution.height;
+            }
+            if (contribution.weight != null) {
+                weightCount += sign;
+                weightSum += (long) sign * contribution.weight;
+            }
+        }
+
+        private EraTotals merge(EraTotals other) {
+            players += other.players;
+            heightCount += other.heightCount;
+            heightSum += other.heightSum;
+            weightCount += other.weightCount;
+            weightSum += other.weightSum;
+            return this;
+        }
+
+        private PlayerEraStats toStats() {
+            return new PlayerEraStats(players,
+                    heightCount == 0 ? null : (double) heightSum / heightCount,
+                    weightCount == 0 ? null : (double) weightSum / weightCount);
+        }
+    }
+}
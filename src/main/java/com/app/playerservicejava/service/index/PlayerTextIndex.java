@@ -0,0 +1,192 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * In-memory inverted index over player names, birthplaces, IDs and birth/debut years, for retrieving the
+ * players a free-text question is about.
+ *
+ * Each term maps to a posting list of (row, field weight). A query adds weight * idf per matching posting
+ * into a score per row and keeps the top K with a bounded heap; structured filters are then checked on the
+ * few scored rows only. Loaded once at startup and kept current from {@link PlayersChangedEvent}: a changed
+ * player's old terms are removed and its new ones added, nothing else is touched.
+ */
+@Service
+public class PlayerTextIndex extends PlayerRowIndex {
+
+    // A player's names say far more about which player a question means than where they were born
+    private static final int ID_WEIGHT = 8;
+    private static final int NAME_WEIGHT = 4;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int YEAR_WEIGHT = 1;
+
+    // Words that carry no meaning in questions about players
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "any", "are", "as", "at", "be", "born", "by", "did", "do", "does", "for", "from",
+            "had", "has", "have", "how", "in", "is", "it", "me", "of", "on", "or", "player", "players", "tell",
+            "that", "the", "their", "there", "this", "to", "was", "were", "what", "when", "where", "which", "who",
+            "whom", "whose", "why", "with");
+
+    // Term -> rows with the weight of the field the term came from
+    private final Map<String, Postings> postings = new HashMap<>();
+    private Player[] players = new Player[INITIAL_CAPACITY];
+    // Terms each row was indexed under, so an update can take them out again
+    private String[][] rowTerms = new String[INITIAL_CAPACITY][];
+
+    /**
+     * Up to {@code limit} players best matching {@code text}, best first, that also satisfy {@code filters}
+     * (which may be null). Players are only returned when at least one term matched.
+     */
+    public List<Player> search(String text, PlayerSearchCriteria filters, int limit) {
+        List<String> terms = queryTerms(text);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            float[] scores = new float[size];
+            boolean matched = false;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                matched = true;
+                // Smoothed idf: a surname shared by three players beats a state shared by thousands
+                float idf = (float) Math.log(1 + (double) size / list.count);
+                for (int i = 0; i < list.count; i++) {
+                    scores[list.rows[i]] += list.values[i] * idf;
+                }
+            }
+            if (!matched) {
+                return List.of();
+            }
+            List<Player> result = new ArrayList<>(limit);
+            for (int row : topRows(scores, PlayerFilter.of(filters), limit)) {
+                result.add(players[row]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected String describe() {
+        return "terms=" + postings.size();
+    }
+
+    /**
+     * Lower-cased terms of a question, without stop words and one-letter words; duplicates kept once.
+     */
+    static List<String> queryTerms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        Map<String, Boolean> terms = new LinkedHashMap<>();
+        for (String token : tokens(text)) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                terms.put(token, Boolean.TRUE);
+            }
+        }
+        return new ArrayList<>(terms.keySet());
+    }
+
+    private static String[] tokens(String text) {
+        // Keeps digits so player IDs ("aaronha01") and years stay single terms
+        return text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+    }
+
+    /**
+     * Best rows by score among those passing the filters, using a bounded min-heap; ties go to the lower
+     * playerId so results are stable.
+     */
+    private int[] topRows(float[] scores, PlayerFilter filter, int limit) {
+        Player[] rows = players;
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int byScore = Float.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : rows[b].getPlayerId().compareTo(rows[a].getPlayerId());
+        });
+        for (int row = 0; row < scores.length; row++) {
+            if (scores[row] <= 0 || !filter.matches(rows[row])) {
+                continue;
+            }
+            heap.offer(row);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return top;
+    }
+
+    @Override
+    protected void set(int row, Player player, boolean replacing) {
+        if (replacing) {
+            for (String term : rowTerms[row]) {
+                Postings list = postings.get(term);
+                list.remove(row);
+                if (list.count == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        players[row] = player;
+
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, player.getPlayerId(), ID_WEIGHT);
+        addTerms(weights, player.getFirstName(), NAME_WEIGHT);
+        addTerms(weights, player.getLastName(), NAME_WEIGHT);
+        addTerms(weights, player.getGivenName(), NAME_WEIGHT);
+        addTerms(weights, player.getBirthCity(), PLACE_WEIGHT);
+        addTerms(weights, player.getBirthState(), PLACE_WEIGHT);
+        addTerms(weights, player.getBirthCountry(), PLACE_WEIGHT);
+        if (player.getBirthYear() != null) {
+            addTerms(weights, player.getBirthYear().toString(), YEAR_WEIGHT);
+        }
+        if (player.getDebut() != null) {
+            addTerms(weights, Integer.toString(player.getDebut().getYear()), YEAR_WEIGHT);
+        }
+        String[] terms = new String[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(row, entry.getValue());
+            terms[i++] = entry.getKey();
+        }
+        rowTerms[row] = terms;
+    }
+
+    // A term found in several fields keeps its highest weight
+    private static void addTerms(Map<String, Integer> weights, String value, int weight) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        for (String token : tokens(value)) {
+            if (!token.isEmpty()) {
+                weights.merge(token, weight, Math::max);
+            }
+        }
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        players = Arrays.copyOf(players, capacity);
+        rowTerms = Arrays.copyOf(rowTerms, capacity);
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.playerservicejava.service.index;
+
+import java.util.Arrays;
+
+/**
+ * Rows containing one term, unordered, each with a byte of index-specific data (a field weight or a mask of
+ * name fields). Not thread-safe; callers guard it with their own lock.
+ */
+final class Postings {
+
+    int[] rows = new int[2];
+    byte[] values = new byte[2];
+    int count;
+
+    void add(int row, int value) {
+        if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count * 2);
+            values = Arrays.copyOf(values, count * 2);
+        }
+        rows[count] = row;
+        values[count] = (byte) value;
+        count++;
+    }
+
+    void remove(int row) {
+        for (int i = 0; i < count; i++) {
+            if (rows[i] == row) {
+                count--;
+                rows[i] = rows[count];
+                values[i] = values[count];
+                return;
+            }
+        }
+    }
+}
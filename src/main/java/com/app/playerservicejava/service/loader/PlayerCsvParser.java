@@ -0,0 +1,257 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.repository.PlayerBulkRepository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parser for the player CSV that works directly on the (usually memory-mapped) bytes.
+ *
+ * Integer and date fields are decoded from the buffer without creating a String; only text columns are
+ * copied out. The parser is immutable after the header has been read, so disjoint line ranges of the same
+ * buffer can be parsed concurrently. Rows come out in {@link PlayerBulkRepository#COLUMNS} order.
+ * Quoted fields are not supported (Player.csv has none) and reject the row.
+ */
+public final class PlayerCsvParser {
+
+    private static final byte SEPARATOR = ',';
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte QUOTE = '"';
+
+    private final int[] targetByField;
+    private final int[] maxLengths;
+    private final int dataStart;
+
+    /**
+     * Reads the header line of {@code data} and maps its columns onto PLAYERS by name (case-insensitive).
+     *
+     * @param maxLengths maximum length per target column for text columns, 0 for no check
+     */
+    public PlayerCsvParser(ByteBuffer data, int[] maxLengths) {
+        int headerEnd = indexOf(data, NEWLINE, 0, data.limit());
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("CSV has no header line");
+        }
+        String header = decode(data, 0, trimLineEnd(data, 0, headerEnd));
+        String[] names = header.split(",", -1);
+        this.targetByField = new int[names.length];
+        boolean[] seen = new boolean[PlayerBulkRepository.COLUMNS.size()];
+        for (int field = 0; field < names.length; field++) {
+            int target = PlayerBulkRepository.COLUMNS.indexOf(names[field].trim().toUpperCase(Locale.ROOT));
+            targetByField[field] = target;
+            if (target >= 0) {
+                seen[target] = true;
+            }
+        }
+        if (!seen[0]) {
+            throw new IllegalArgumentException("CSV header has no playerID column: " + header);
+        }
+        this.maxLengths = Arrays.copyOf(maxLengths, PlayerBulkRepository.COLUMNS.size());
+        this.dataStart = headerEnd + 1;
+    }
+
+    /**
+     * Offset of the first data line.
+     */
+    public int dataStart() {
+        return dataStart;
+    }
+
+    /**
+     * Start of the line following {@code position}, or the buffer limit; used to cut the file into chunks
+     * that never split a line.
+     */
+    public int nextLineStart(ByteBuffer data, int position) {
+        if (position <= dataStart) {
+            return dataStart;
+        }
+        int newline = indexOf(data, NEWLINE, position - 1, data.limit());
+        return newline < 0 ? data.limit() : newline + 1;
+    }
+
+    /**
+     * Parses the complete lines in {@code [from, to)}. Invalid rows are counted and skipped.
+     */
+    public ParsedChunk parse(ByteBuffer data, int from, int to) {
+        List<Object[]> rows = new ArrayList<>(Math.max(16, (to - from) / 96));
+        int rejected = 0;
+        String firstError = null;
+        int[] fieldStarts = new int[targetByField.length + 1];
+        int lineStart = from;
+        while (lineStart < to) {
+            int newline = indexOf(data, NEWLINE, lineStart, to);
+            int lineEnd = newline < 0 ? to : newline;
+            int contentEnd = trimLineEnd(data, lineStart, lineEnd);
+            if (contentEnd > lineStart) {
+                try {
+                    rows.add(parseLine(data, lineStart, contentEnd, fieldStarts));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (firstError == null) {
+                        firstError = "offset " + lineStart + ": " + e.getMessage();
+                    }
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return new ParsedChunk(rows, rejected, firstError);
+    }
+
+    private Object[] parseLine(ByteBuffer data, int start, int end, int[] fieldStarts) {
+        // Split first so a short or long line is rejected before any value is decoded
+        int fields = 0;
+        fieldStarts[fields++] = start;
+        for (int i = start; i < end; i++) {
+            byte b = data.get(i);
+            if (b == SEPARATOR) {
+                if (fields == targetByField.length) {
+                    throw new IllegalArgumentException("more than " + targetByField.length + " fields");
+                }
+                fieldStarts[fields++] = i + 1;
+            } else if (b == QUOTE) {
+                throw new IllegalArgumentException("quoted fields are not supported");
+            }
+        }
+        if (fields != targetByField.length) {
+            throw new IllegalArgumentException("expected " + targetByField.length + " fields but found " + fields);
+        }
+        fieldStarts[fields] = end + 1;
+
+        Object[] row = new Object[PlayerBulkRepository.COLUMNS.size()];
+        for (int field = 0; field < fields; field++) {
+            int target = targetByField[field];
+            int fieldStart = fieldStarts[field];
+            int fieldEnd = fieldStarts[field + 1] - 1;
+            if (target < 0 || fieldEnd == fieldStart) {
+                continue;
+            }
+            row[target] = parseValue(data, fieldStart, fieldEnd, target);
+        }
+        if (row[0] == null) {
+            throw new IllegalArgumentException("missing playerID");
+        }
+        return row;
+    }
+
+    private Object parseValue(ByteBuffer data, int start, int end, int target) {
+        switch (PlayerBulkRepository.COLUMN_TYPES[target]) {
+            case Types.INTEGER:
+                return parseInt(data, start, end, target);
+            case Types.DATE:
+                return parseDate(data, start, end, target);
+            default:
+                String value = decode(data, start, end);
+                int maxLength = maxLengths[target];
+                if (maxLength > 0 && value.length() > maxLength) {
+                    throw new IllegalArgumentException(PlayerBulkRepository.COLUMNS.get(target)
+                            + " longer than " + maxLength + " characters");
+                }
+                return value;
+        }
+    }
+
+    private static int parseInt(ByteBuffer data, int start, int end, int target) {
+        boolean negative = data.get(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end || end - i > 9) {
+            throw invalid(data, start, end, target, "integer");
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = data.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(data, start, end, target, "integer");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // ISO yyyy-MM-dd only, which is the only format the CSV uses
+    private static LocalDate parseDate(ByteBuffer data, int start, int end, int target) {
+        if (end - start != 10 || data.get(start + 4) != '-' || data.get(start + 7) != '-') {
+            throw invalid(data, start, end, target, "date");
+        }
+        int year = digits(data, start, 4, target);
+        int month = digits(data, start + 5, 2, target);
+        int day = digits(data, start + 8, 2, target);
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            // Well-formed but impossible, like 1954-13-01; reported with the column like any other bad date
+            throw invalid(data, start, end, target, "date");
+        }
+    }
+
+    private static int digits(ByteBuffer data, int start, int count, int target) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = data.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(data, start, start + count, target, "date");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(ByteBuffer data, int start, int end, int target, String type) {
+        return new IllegalArgumentException(PlayerBulkRepository.COLUMNS.get(target) + " is not a valid "
+                + type + ": " + decode(data, start, end));
+    }
+
+    private static String decode(ByteBuffer data, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int trimLineEnd(ByteBuffer data, int start, int end) {
+        return end > start && data.get(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+    }
+
+    private static int indexOf(ByteBuffer data, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Typed rows from one line range, plus how many lines were rejected and why the first one was.
+     */
+    public static final class ParsedChunk {
+        private final List<Object[]> rows;
+        private final int rejected;
+        private final String firstError;
+
+        ParsedChunk(List<Object[]> rows, int rejected, String firstError) {
+            this.rows = rows;
+            this.rejected = rejected;
+            this.firstError = firstError;
+        }
+
+        public List<Object[]> getRows() {
+            return rows;
+        }
+
+        public int getRejected() {
+            return rejected;
+        }
+
+        public String getFirstError() {
+            return firstError;
+        }
+    }
+}
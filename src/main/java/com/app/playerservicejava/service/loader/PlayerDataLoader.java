@@ -0,0 +1,365 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.repository.PlayerBulkRepository;
+import com.app.playerservicejava.service.loader.PlayerCsvParser.ParsedChunk;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Loads PLAYERS from the player csv at startup, after schema.sql has created the tables.
+ *
+ * The csv is memory-mapped (or read once when it lives inside a jar) and cut into line-aligned chunks that
+ * are parsed on a small pool while the chunks already parsed are written in order, one batched statement
+ * and one transaction per chunk. Secondary indexes from indexes.sql are created after the rows are in.
+ * A CRC32C of the csv is recorded in PLAYER_DATA_LOAD and the whole load is skipped on the next start when
+ * it still matches. Runs during bean initialization, so the columnar index and every request see a loaded table.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class PlayerDataLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerDataLoader.class);
+
+    // Bump when the conversion of csv rows changes so existing databases are reloaded once
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String COLUMNS_SQL = "SELECT COLUMN_NAME, DATA_TYPE, CHARACTER_MAXIMUM_LENGTH "
+            + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'PLAYERS'";
+
+    // CHARACTER_MAXIMUM_LENGTH H2 reports for a VARCHAR declared without a length
+    private static final long UNBOUNDED_LENGTH = 1_000_000_000L;
+
+    // Where an all-VARCHAR PLAYERS table is kept while its rows are copied into the typed one
+    private static final String LEGACY_TABLE = "PLAYERS_LEGACY";
+
+    // The conversions the typed schema applied to CSVREAD's output before this loader replaced it
+    private static final String MIGRATE_LEGACY_SQL = "INSERT INTO PLAYERS SELECT PLAYERID, "
+            + "CAST(NULLIF(BIRTHYEAR, '') AS INT), CAST(NULLIF(BIRTHMONTH, '') AS INT), CAST(NULLIF(BIRTHDAY, '') AS INT), "
+            + "NULLIF(BIRTHCOUNTRY, ''), NULLIF(BIRTHSTATE, ''), NULLIF(BIRTHCITY, ''), "
+            + "CAST(NULLIF(DEATHYEAR, '') AS INT), CAST(NULLIF(DEATHMONTH, '') AS INT), CAST(NULLIF(DEATHDAY, '') AS INT), "
+            + "NULLIF(DEATHCOUNTRY, ''), NULLIF(DEATHSTATE, ''), NULLIF(DEATHCITY, ''), "
+            + "NULLIF(NAMEFIRST, ''), NULLIF(NAMELAST, ''), NULLIF(NAMEGIVEN, ''), "
+            + "CAST(NULLIF(WEIGHT, '') AS INT), CAST(NULLIF(HEIGHT, '') AS INT), "
+            + "NULLIF(BATS, ''), NULLIF(THROWS, ''), "
+            + "CAST(NULLIF(DEBUT, '') AS DATE), CAST(NULLIF(FINALGAME, '') AS DATE), "
+            + "NULLIF(RETROID, ''), NULLIF(BBREFID, '') "
+            + "FROM " + LEGACY_TABLE;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlayerBulkRepository playerBulkRepository;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    @Value("${player-service.loader.enabled:true}")
+    private boolean enabled;
+
+    @Value("${player-service.loader.source:classpath:Player.csv}")
+    private String source;
+
+    @Value("${player-service.loader.chunk-size:1MB}")
+    private DataSize chunkSize;
+
+    @Value("${player-service.loader.parallelism:0}")
+    private int parallelism;
+
+    private volatile String loadOutcome = "disabled";
+    private volatile long loadMillis;
+
+    @PostConstruct
+    public void load() {
+        long start = System.nanoTime();
+        if (enabled) {
+            loadOutcome = loadIfChanged();
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("indexes.sql")).execute(dataSource);
+        loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        LOGGER.info("message=Player service ready; timeToReadyMs={}, jvmUptimeMs={}, dataLoad={}, dataLoadMs={}",
+                   event.getTimeTaken() == null ? null : event.getTimeTaken().toMillis(),
+                   ManagementFactory.getRuntimeMXBean().getUptime(), loadOutcome, loadMillis);
+    }
+
+    private String loadIfChanged() {
+        Map<String, Map<String, Object>> columns = describePlayersTable();
+        Map<String, Object> birthYear = columns.get("BIRTHYEAR");
+        boolean legacy = birthYear != null && !"INTEGER".equals(birthYear.get("DATA_TYPE"));
+        boolean migrated = legacy || tableExists(LEGACY_TABLE);
+        if (migrated) {
+            migrateLegacyTable(legacy);
+            columns = describePlayersTable();
+        }
+        requireColumns(columns);
+        if (widenTextColumns(columns)) {
+            columns = describePlayersTable();
+        }
+
+        ByteBuffer data = read(resourceLoader.getResource(source));
+        String checksum = checksum(data);
+        long existingRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PLAYERS", Long.class);
+        if (migrated) {
+            // The legacy table was filled from this csv; loading it again would overwrite players edited since
+            jdbcTemplate.update("MERGE INTO PLAYER_DATA_LOAD (SOURCE, CHECKSUM, ROW_COUNT, LOADED_AT) KEY (SOURCE) "
+                    + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", source, checksum, existingRows);
+            return "migrated";
+        }
+        List<Long> loadedRows = jdbcTemplate.queryForList(
+                "SELECT ROW_COUNT FROM PLAYER_DATA_LOAD WHERE SOURCE = ? AND CHECKSUM = ?", Long.class, source, checksum);
+        if (!loadedRows.isEmpty() && existingRows >= loadedRows.get(0)) {
+            LOGGER.info("message=Player csv unchanged, skipping load; source={}, checksum={}, rows={}",
+                       source, checksum, existingRows);
+            return "skipped";
+        }
+
+        PlayerCsvParser parser = new PlayerCsvParser(data, maxLengths(columns));
+        LoadStats stats = loadRows(data, parser, existingRows == 0);
+        jdbcTemplate.update("MERGE INTO PLAYER_DATA_LOAD (SOURCE, CHECKSUM, ROW_COUNT, LOADED_AT) KEY (SOURCE) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", source, checksum, stats.rows);
+        return existingRows == 0 ? "loaded" : "reloaded";
+    }
+
+    private LoadStats loadRows(ByteBuffer data, PlayerCsvParser parser, boolean emptyTable) {
+        long start = System.nanoTime();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        int chunkBytes = (int) Math.min(Integer.MAX_VALUE, Math.max(64 * 1024, chunkSize.toBytes()));
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("player-loader-"));
+        LoadStats stats = new LoadStats(emptyTable);
+        // Parsing runs ahead of the single writer by at most two chunks per thread to bound memory
+        Deque<Future<ParsedChunk>> pending = new ArrayDeque<>();
+        try {
+            int from = parser.dataStart();
+            while (from < data.limit()) {
+                int chunkStart = from;
+                int chunkEnd = parser.nextLineStart(data, (int) Math.min(data.limit(), (long) from + chunkBytes));
+                pending.add(parsers.submit(() -> parser.parse(data, chunkStart, chunkEnd)));
+                if (pending.size() >= threads * 2) {
+                    write(pending.poll(), stats);
+                }
+                from = chunkEnd;
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), stats);
+            }
+        } finally {
+            parsers.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        LOGGER.info("message=Player csv loaded; source={}, bytes={}, rows={}, rejectedRows={}, chunks={}, threads={}, mode={}, tookMs={}, rowsPerSecond={}",
+                   source, data.limit(), stats.rows, stats.rejected, stats.chunks, threads,
+                   emptyTable ? "insert" : "upsert", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                   elapsedNanos == 0 ? 0 : stats.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return stats;
+    }
+
+    private void write(Future<ParsedChunk> future, LoadStats stats) {
+        ParsedChunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading players", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse player csv", e.getCause());
+        }
+        List<Object[]> rows = chunk.getRows();
+        if (!rows.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (stats.insert) {
+                        playerBulkRepository.insertRows(rows);
+                    } else {
+                        playerBulkRepository.upsertRows(rows);
+                    }
+                });
+            } catch (DuplicateKeyException e) {
+                // The csv repeats a playerID; fall back to MERGE for the rest of the load
+                LOGGER.warn("message=Duplicate playerID in player csv, switching to upsert; chunk={}", stats.chunks);
+                stats.insert = false;
+                transactionTemplate.executeWithoutResult(status -> playerBulkRepository.upsertRows(rows));
+            }
+        }
+        if (chunk.getRejected() > 0) {
+            LOGGER.warn("message=Rejected player csv rows; chunk={}, rows={}, firstError={}",
+                       stats.chunks, chunk.getRejected(), chunk.getFirstError());
+        }
+        stats.rows += rows.size();
+        stats.rejected += chunk.getRejected();
+        stats.chunks++;
+    }
+
+    /**
+     * Databases created before the typed schema have PLAYERS as all-VARCHAR (CSVREAD's output). The table is
+     * renamed, PLAYERS is recreated from schema.sql and every row is copied across with the typed conversions,
+     * so players written through the API survive the upgrade. A row that does not convert stops the start and
+     * puts the legacy table back; a migration cut short by a crash is redone on the next start.
+     */
+    private void migrateLegacyTable(boolean legacyIsPlayers) {
+        if (legacyIsPlayers) {
+            jdbcTemplate.execute("ALTER TABLE PLAYERS RENAME TO " + LEGACY_TABLE);
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        Integer rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                jdbcTemplate.update("DELETE FROM PLAYERS");
+                return jdbcTemplate.update(MIGRATE_LEGACY_SQL);
+            });
+        } catch (DataAccessException e) {
+            jdbcTemplate.execute("DROP TABLE PLAYERS");
+            jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " RENAME TO PLAYERS");
+            throw new IllegalStateException("Could not migrate the legacy PLAYERS table to the typed schema, "
+                    + "it was left unchanged: " + e.getMostSpecificCause().getMessage(), e);
+        }
+        // Its indexes go with it; indexes.sql recreates them on the typed table
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        LOGGER.info("message=Migrated legacy PLAYERS table to the typed schema; rows={}", rows);
+    }
+
+    private boolean tableExists(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ?", Integer.class, table) > 0;
+    }
+
+    private Map<String, Map<String, Object>> describePlayersTable() {
+        Map<String, Map<String, Object>> columns = new HashMap<>();
+        for (Map<String, Object> column : jdbcTemplate.queryForList(COLUMNS_SQL)) {
+            columns.put((String) column.get("COLUMN_NAME"), column);
+        }
+        return columns;
+    }
+
+    private static void requireColumns(Map<String, Map<String, Object>> columns) {
+        List<String> missing = new ArrayList<>();
+        for (String column : PlayerBulkRepository.COLUMNS) {
+            if (!columns.containsKey(column)) {
+                missing.add(column);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("PLAYERS table is missing columns " + missing
+                    + "; it must be created by schema.sql before players are loaded");
+        }
+    }
+
+    /**
+     * Drops the length limits earlier versions of schema.sql put on text columns (VARCHAR(16), CHAR(1), ...),
+     * which turned a longer value from the API into a failed insert. Rows and indexes are kept.
+     */
+    private boolean widenTextColumns(Map<String, Map<String, Object>> columns) {
+        List<String> widened = new ArrayList<>();
+        for (int i = 0; i < PlayerBulkRepository.COLUMNS.size(); i++) {
+            String name = PlayerBulkRepository.COLUMNS.get(i);
+            Map<String, Object> column = columns.get(name);
+            if (PlayerBulkRepository.COLUMN_TYPES[i] == Types.VARCHAR
+                    && column.get("CHARACTER_MAXIMUM_LENGTH") instanceof Number length
+                    && length.longValue() < UNBOUNDED_LENGTH) {
+                jdbcTemplate.execute("ALTER TABLE PLAYERS ALTER COLUMN " + name + " SET DATA TYPE VARCHAR");
+                widened.add(name);
+            }
+        }
+        if (!widened.isEmpty()) {
+            LOGGER.info("message=Removed length limits from PLAYERS text columns; columns={}", widened);
+        }
+        return !widened.isEmpty();
+    }
+
+    private static int[] maxLengths(Map<String, Map<String, Object>> columns) {
+        int[] maxLengths = new int[PlayerBulkRepository.COLUMNS.size()];
+        for (int i = 0; i < maxLengths.length; i++) {
+            int type = PlayerBulkRepository.COLUMN_TYPES[i];
+            Map<String, Object> column = columns.get(PlayerBulkRepository.COLUMNS.get(i));
+            if (type == Types.VARCHAR && column != null
+                    && column.get("CHARACTER_MAXIMUM_LENGTH") instanceof Number length) {
+                maxLengths[i] = (int) Math.min(Integer.MAX_VALUE, length.longValue());
+            }
+        }
+        return maxLengths;
+    }
+
+    private static ByteBuffer read(Resource resource) {
+        try {
+            if (resource.isFile()) {
+                try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                    if (channel.size() > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("Player csv larger than 2GB is not supported: " + resource);
+                    }
+                    // The mapping stays valid after the channel is closed
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            try (InputStream in = resource.getInputStream()) {
+                return ByteBuffer.wrap(in.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read player csv " + resource, e);
+        }
+    }
+
+    private static String checksum(ByteBuffer data) {
+        CRC32C crc = new CRC32C();
+        crc.update(data.duplicate());
+        return "crc32c:" + Long.toHexString(crc.getValue()) + ":" + data.limit() + ":v" + FORMAT_VERSION;
+    }
+
+    private static final class LoadStats {
+        private boolean insert;
+        private long rows;
+        private long rejected;
+        private int chunks;
+
+        private LoadStats(boolean insert) {
+            this.insert = insert;
+        }
+    }
+}
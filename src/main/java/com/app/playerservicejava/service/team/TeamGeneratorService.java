@@ -0,0 +1,86 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.model.TeamFeedbackRequest;
+import com.app.playerservicejava.model.TeamFeedbackResponse;
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process replacement for the team-model server's /team/generate and /team/feedback: the same nearest-
+ * neighbour teams and the same per-seed exclusions from negative feedback, without the network round trip.
+ */
+@Service
+public class TeamGeneratorService {
+
+    @Autowired
+    private TeamFeatureIndex teamFeatureIndex;
+
+    @Value("${player-service.team.max-team-size:100}")
+    private int maxTeamSize;
+
+    // seed -> members rejected through feedback; in memory, like the model server
+    private final Map<String, Set<String>> exclusions = new ConcurrentHashMap<>();
+
+    /**
+     * Builds a team around a seed player or raw features. Empty when the seed player does not exist.
+     *
+     * @throws IllegalArgumentException when neither seed nor features are given or the team size is out of range
+     */
+    @Timed(value = "player.team", extraTags = {"operation", "generate"})
+    public Optional<TeamGenerateResponse> generate(TeamGenerateRequest request) {
+        if (request.getTeamSize() < 1 || request.getTeamSize() > maxTeamSize) {
+            throw new IllegalArgumentException("team_size must be between 1 and " + maxTeamSize);
+        }
+        String seedId = request.getSeedId();
+        float[] query;
+        if (seedId != null && !seedId.isEmpty()) {
+            Optional<float[]> seedFeatures = teamFeatureIndex.featuresOf(seedId);
+            if (seedFeatures.isEmpty()) {
+                return Optional.empty();
+            }
+            query = seedFeatures.get();
+        } else if (request.getFeatures() != null) {
+            query = teamFeatureIndex.featuresFor(request.getFeatures());
+        } else {
+            throw new IllegalArgumentException("The payload must include either seed_id or features");
+        }
+
+        Set<String> excluded = seedId == null ? Set.of() : exclusions.getOrDefault(seedId, Set.of());
+        List<String> members = new ArrayList<>(request.getTeamSize());
+        for (String candidate : teamFeatureIndex.nearest(query, request.getTeamSize() + excluded.size())) {
+            if (!excluded.contains(candidate) && members.size() < request.getTeamSize()) {
+                members.add(candidate);
+            }
+        }
+        return Optional.of(new TeamGenerateResponse(seedId, UUID.randomUUID().toString(), members.size(), members));
+    }
+
+    /**
+     * Records feedback on a team member; not accepted when the seed is not a known player.
+     */
+    @Timed(value = "player.team", extraTags = {"operation", "feedback"})
+    public TeamFeedbackResponse feedback(TeamFeedbackRequest request) {
+        if (request.getFeedback() != -1 && request.getFeedback() != 1) {
+            throw new IllegalArgumentException("feedback must be -1 or 1");
+        }
+        boolean accepted = request.getSeedId() != null && teamFeatureIndex.contains(request.getSeedId());
+        if (accepted && request.getFeedback() < 0 && request.getMemberId() != null) {
+            exclusions.computeIfAbsent(request.getSeedId(), seed -> ConcurrentHashMap.newKeySet())
+                    .add(request.getMemberId());
+        }
+        String predictionId = request.getPredictionId() == null ? UUID.randomUUID().toString() : request.getPredictionId();
+        return new TeamFeedbackResponse(request.getSeedId(), predictionId, request.getMemberId(), accepted);
+    }
+}
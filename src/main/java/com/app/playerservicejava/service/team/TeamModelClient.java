@@ -0,0 +1,368 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.model.TeamFeatures;
+import com.app.playerservicejava.model.TeamFeedbackRequest;
+import com.app.playerservicejava.model.TeamFeedbackResponse;
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import com.app.playerservicejava.service.CircuitBreaker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Non-blocking client for the Python team-model server, which fails about 1% of calls and stalls for
+ * seconds on another 1%. Callers get a future that never outlives the deadline and no thread is held
+ * while waiting. Per call:
+ * <ol>
+ *   <li>generate results are served from a short-TTL cache keyed on seed or features and team size</li>
+ *   <li>the bulkhead rejects the call when too many are in flight, the circuit breaker when the server
+ *       has been failing</li>
+ *   <li>if the first attempt has not answered after the recent p95 latency (or fails), one hedged attempt
+ *       is sent and the first good response wins; the loser is cancelled</li>
+ * </ol>
+ * Only timeouts, transport errors and 5xx count as failures; a 4xx is the caller's problem and is passed on.
+ */
+@Component
+public class TeamModelClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TeamModelClient.class);
+
+    // Recompute the hedge delay from the latency histogram at most this often
+    private static final long HEDGE_DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int HEDGE_DELAY_MIN_SAMPLES = 20;
+
+    private final TeamModelProperties properties;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI generateUri;
+    private final URI feedbackUri;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final AtomicInteger hedgesInFlight = new AtomicInteger();
+    private final Cache<String, TeamGenerateResponse> results;
+
+    private final Timer attemptLatency;
+    private final Counter hedgeCounter;
+    private final Map<String, Counter> outcomeCounters;
+
+    private volatile long hedgeDelayNanos;
+    private volatile long hedgeDelayComputedAt;
+
+    public TeamModelClient(TeamModelProperties properties, HttpClient teamModelHttpClient, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient = teamModelHttpClient;
+        this.objectMapper = objectMapper;
+        this.generateUri = properties.getUrl().resolve("team/generate");
+        this.feedbackUri = properties.getUrl().resolve("team/feedback");
+        TeamModelProperties.Breaker breaker = properties.getCircuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(breaker.getWindowSize(), breaker.getMinimumCalls(),
+                breaker.getFailureRateThreshold(), breaker.getOpenDuration().toNanos(), breaker.getHalfOpenCalls(),
+                System::nanoTime);
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.results = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaximumSize())
+                .expireAfterWrite(properties.getCache().getTimeToLive())
+                .recordStats()
+                .build();
+        this.hedgeDelayNanos = properties.getHedge().getInitialDelay().toNanos();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "teamModelResults");
+        this.attemptLatency = Timer.builder("player.team.model.attempt")
+                .description("Latency of successful team-model attempts, drives the hedge delay")
+                .publishPercentiles(properties.getHedge().getPercentile())
+                .register(meterRegistry);
+        this.hedgeCounter = Counter.builder("player.team.model.hedges")
+                .description("Hedged team-model attempts sent")
+                .register(meterRegistry);
+        this.outcomeCounters = Map.of(
+                "success", outcomeCounter(meterRegistry, "success"),
+                "client_error", outcomeCounter(meterRegistry, "client_error"),
+                "failure", outcomeCounter(meterRegistry, "failure"),
+                "timeout", outcomeCounter(meterRegistry, "timeout"),
+                "rejected", outcomeCounter(meterRegistry, "rejected"),
+                "circuit_open", outcomeCounter(meterRegistry, "circuit_open"));
+        Gauge.builder("player.team.model.circuit.open", circuitBreaker,
+                        cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the team-model circuit breaker is open or half-open")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("player.team.model.calls")
+                .description("Team-model calls by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<TeamGenerateResponse> generate(TeamGenerateRequest request) {
+        String key = cacheKey(request);
+        TeamGenerateResponse cached = results.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return call(generateUri, request, TeamGenerateResponse.class, properties.getHedge().isEnabled())
+                .thenApply(response -> {
+                    results.put(key, response);
+                    return response;
+                });
+    }
+
+    /**
+     * Sends feedback (never hedged). Negative feedback drops the seed's cached teams so the next team
+     * reflects the exclusion.
+     */
+    public CompletableFuture<TeamFeedbackResponse> feedback(TeamFeedbackRequest request) {
+        return call(feedbackUri, request, TeamFeedbackResponse.class, false)
+                .thenApply(response -> {
+                    if (request.getFeedback() < 0 && request.getSeedId() != null) {
+                        String prefix = seedKeyPrefix(request.getSeedId());
+                        results.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+                    }
+                    return response;
+                });
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> CompletableFuture<T> call(URI uri, Object body, Class<T> type, boolean hedged) {
+        if (!bulkhead.tryAcquire()) {
+            outcomeCounters.get("rejected").increment();
+            return CompletableFuture.failedFuture(
+                    new TeamModelException(HttpStatus.SERVICE_UNAVAILABLE, "Too many team-model calls in flight"));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            outcomeCounters.get("circuit_open").increment();
+            return CompletableFuture.failedFuture(
+                    new TeamModelException(HttpStatus.SERVICE_UNAVAILABLE, "Team-model circuit breaker is open"));
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(properties.getDeadline())
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            bulkhead.release();
+            circuitBreaker.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Call<T> call = new Call<>(request, response -> parse(response, type), hedged);
+        call.start();
+        if (hedged) {
+            long delay = hedgeDelayNanos();
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(call::hedge);
+        }
+        // Callers see the outcome only after the bulkhead and breaker have accounted for it
+        return call.result.orTimeout(properties.getDeadline().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    bulkhead.release();
+                    call.cancelOutstanding();
+                    record(error);
+                });
+    }
+
+    private void record(Throwable error) {
+        if (error == null) {
+            circuitBreaker.onSuccess();
+            outcomeCounters.get("success").increment();
+        } else if (error instanceof TeamModelException e && e.getStatus().is4xxClientError()) {
+            // The server answered; only the request was wrong
+            circuitBreaker.onSuccess();
+            outcomeCounters.get("client_error").increment();
+        } else if (error instanceof TimeoutException) {
+            circuitBreaker.onFailure();
+            outcomeCounters.get("timeout").increment();
+        } else {
+            circuitBreaker.onFailure();
+            outcomeCounters.get("failure").increment();
+        }
+    }
+
+    private <T> T parse(HttpResponse<byte[]> response, Class<T> type) {
+        int status = response.statusCode();
+        if (status >= 400 && status < 500) {
+            HttpStatus clientError = HttpStatus.resolve(status);
+            throw new TeamModelException(clientError == null ? HttpStatus.BAD_REQUEST : clientError,
+                    "Team model rejected the request with HTTP " + status);
+        }
+        if (status < 200 || status >= 300) {
+            throw new TeamModelException(HttpStatus.BAD_GATEWAY, "Team model answered HTTP " + status);
+        }
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new TeamModelException(HttpStatus.BAD_GATEWAY, "Unreadable team-model response: " + e.getMessage());
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        long now = System.nanoTime();
+        if (now - hedgeDelayComputedAt > HEDGE_DELAY_REFRESH_NANOS) {
+            hedgeDelayComputedAt = now;
+            if (attemptLatency.count() >= HEDGE_DELAY_MIN_SAMPLES) {
+                for (ValueAtPercentile percentile : attemptLatency.takeSnapshot().percentileValues()) {
+                    long p = (long) percentile.value(TimeUnit.NANOSECONDS);
+                    hedgeDelayNanos = Math.max(properties.getHedge().getMinDelay().toNanos(),
+                            Math.min(p, properties.getDeadline().toNanos() / 2));
+                }
+            }
+        }
+        return hedgeDelayNanos;
+    }
+
+    private static String cacheKey(TeamGenerateRequest request) {
+        if (request.getSeedId() != null && !request.getSeedId().isEmpty()) {
+            return seedKeyPrefix(request.getSeedId()) + request.getTeamSize();
+        }
+        TeamFeatures features = request.getFeatures();
+        if (features == null) {
+            return "none:" + request.getTeamSize();
+        }
+        return "features:" + features.getBirthYear() + ":" + features.getHeight() + ":" + features.getWeight()
+                + ":" + features.getBats() + ":" + features.getThrowStats() + ":" + request.getTeamSize();
+    }
+
+    private static String seedKeyPrefix(String seedId) {
+        return "seed:" + seedId + ":";
+    }
+
+    /**
+     * One logical call: the first attempt and at most one hedge, racing to complete {@link #result}.
+     * {@link #outstanding} counts attempts in flight plus a hedge being decided, so the call only fails once
+     * no attempt is left that could still succeed.
+     */
+    private final class Call<T> {
+        private final HttpRequest request;
+        private final Function<HttpResponse<byte[]>, T> parser;
+        private final boolean hedgeable;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<?>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicBoolean hedgeSent = new AtomicBoolean();
+        private volatile Throwable lastError;
+
+        private Call(HttpRequest request, Function<HttpResponse<byte[]>, T> parser, boolean hedgeable) {
+            this.request = request;
+            this.parser = parser;
+            this.hedgeable = hedgeable;
+        }
+
+        private void start() {
+            outstanding.incrementAndGet();
+            send(false);
+        }
+
+        /**
+         * Sends the hedged attempt unless the call is done, was already hedged or the hedge budget is spent.
+         */
+        private void hedge() {
+            if (!hedgeable || result.isDone()) {
+                return;
+            }
+            outstanding.incrementAndGet();
+            if (!hedgeSent.compareAndSet(false, true)) {
+                release();
+                return;
+            }
+            if (hedgesInFlight.incrementAndGet() > properties.getHedge().getMaxInFlight()) {
+                hedgesInFlight.decrementAndGet();
+                LOGGER.debug("message=Team-model hedge budget spent, not hedging; uri={}", request.uri());
+                release();
+                return;
+            }
+            hedgeCounter.increment();
+            send(true);
+        }
+
+        private void send(boolean isHedge) {
+            long start = System.nanoTime();
+            CompletableFuture<HttpResponse<byte[]>> attempt =
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            attempts.add(attempt);
+            attempt.whenComplete((response, error) -> {
+                if (isHedge) {
+                    hedgesInFlight.decrementAndGet();
+                }
+                if (result.isDone()) {
+                    return;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause != null) {
+                    failed(cause instanceof HttpTimeoutException
+                            ? new TimeoutException(cause.getMessage())
+                            : new TeamModelException(HttpStatus.BAD_GATEWAY, "Team model unreachable: " + cause));
+                    return;
+                }
+                try {
+                    T value = parser.apply(response);
+                    attemptLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    result.complete(value);
+                } catch (TeamModelException e) {
+                    if (e.getStatus().is4xxClientError()) {
+                        result.completeExceptionally(e);
+                    } else {
+                        failed(e);
+                    }
+                }
+            });
+        }
+
+        // A failed attempt sends the hedge right away instead of waiting for the hedge delay
+        private void failed(Throwable error) {
+            lastError = error;
+            hedge();
+            release();
+        }
+
+        private void release() {
+            if (outstanding.decrementAndGet() == 0 && lastError != null) {
+                result.completeExceptionally(lastError);
+            }
+        }
+
+        private void cancelOutstanding() {
+            for (CompletableFuture<?> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.app.playerservicejava.service.team;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A team-model call that did not produce a result, with the status to answer the caller with.
+ */
+public class TeamModelException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public TeamModelException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,78 @@
+package com.app.playerservicejava.service.team;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * {@code player-service.team.model.*}: where the Python team-model server is and how {@link TeamModelClient}
+ * protects callers from it (deadline, hedging, circuit breaker, bulkhead, result cache).
+ */
+@Data
+@ConfigurationProperties(prefix = "player-service.team.model")
+public class TeamModelProperties {
+
+    private URI url = URI.create("http://127.0.0.1:5000/");
+
+    private Duration connectTimeout = Duration.ofMillis(500);
+
+    /**
+     * Total time a caller waits for a result, across every attempt.
+     */
+    private Duration deadline = Duration.ofSeconds(1);
+
+    private Hedge hedge = new Hedge();
+
+    private Breaker circuitBreaker = new Breaker();
+
+    /**
+     * Calls allowed in flight at once; further calls are rejected instead of queued.
+     */
+    private int maxConcurrentCalls = 64;
+
+    private ResultCache cache = new ResultCache();
+
+    @Data
+    public static class Hedge {
+        private boolean enabled = true;
+
+        /**
+         * Latency percentile of recent successful attempts after which a second attempt is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Hedge delay until enough attempts have been timed to compute the percentile.
+         */
+        private Duration initialDelay = Duration.ofMillis(100);
+
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * Hedged attempts allowed in flight at once, so a slow server does not get twice the load.
+         */
+        private int maxInFlight = 16;
+    }
+
+    @Data
+    public static class Breaker {
+        private int windowSize = 50;
+
+        private int minimumCalls = 20;
+
+        private double failureRateThreshold = 0.5;
+
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class ResultCache {
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,11 @@
+-- Add indexes to improve query performance for common search and sort operations.
+-- Run by PlayerDataLoader once PLAYERS is loaded, so a fresh load does not maintain them row by row.
+-- We use "IF NOT EXISTS" to prevent errors on subsequent application startups.
+-- PLAYERID is the tiebreaker of every sort, so the keyset API can seek to (key, PLAYERID) and read the
+-- page in index order; the leading column still serves name searches and birth-year filters.
+DROP INDEX IF EXISTS idx_lastname;
+DROP INDEX IF EXISTS idx_firstname;
+DROP INDEX IF EXISTS idx_birthyear;
+CREATE INDEX IF NOT EXISTS idx_lastname_id ON PLAYERS(nameLast, playerId);
+CREATE INDEX IF NOT EXISTS idx_firstname_id ON PLAYERS(nameFirst, playerId);
+CREATE INDEX IF NOT EXISTS idx_birthyear_id ON PLAYERS(birthYear, playerId);
@@ -1,8 +1,39 @@
--- Create a table from the csv only if it doesn't exist
-CREATE TABLE IF NOT EXISTS PLAYERS AS SELECT * FROM CSVREAD('classpath:Player.csv');
+-- Typed PLAYERS table: numeric columns are INT and dates are DATE, so sorting and range predicates are
+-- numeric/chronological instead of lexical. Text columns have no length limit: the API and bulk upserts
+-- accept any string, and a bound here would turn a long name into a 500 on insert.
+CREATE TABLE IF NOT EXISTS PLAYERS (
+    PLAYERID     VARCHAR NOT NULL PRIMARY KEY,
+    BIRTHYEAR    INT,
+    BIRTHMONTH   INT,
+    BIRTHDAY     INT,
+    BIRTHCOUNTRY VARCHAR,
+    BIRTHSTATE   VARCHAR,
+    BIRTHCITY    VARCHAR,
+    DEATHYEAR    INT,
+    DEATHMONTH   INT,
+    DEATHDAY     INT,
+    DEATHCOUNTRY VARCHAR,
+    DEATHSTATE   VARCHAR,
+    DEATHCITY    VARCHAR,
+    NAMEFIRST    VARCHAR,
+    NAMELAST     VARCHAR,
+    NAMEGIVEN    VARCHAR,
+    WEIGHT       INT,
+    HEIGHT       INT,
+    BATS         VARCHAR,
+    THROWS       VARCHAR,
+    DEBUT        DATE,
+    FINALGAME    DATE,
+    RETROID      VARCHAR,
+    BBREFID      VARCHAR
+);
 
--- Add indexes to improve query performance for common search and sort operations.
--- We use "IF NOT EXISTS" to prevent errors on subsequent application startups.
-CREATE INDEX IF NOT EXISTS idx_lastname ON PLAYERS(nameLast);
-CREATE INDEX IF NOT EXISTS idx_firstname ON PLAYERS(nameFirst);
-CREATE INDEX IF NOT EXISTS idx_birthyear ON PLAYERS(birthYear);
+-- One row per loaded data source. The startup loader skips the csv when its checksum matches the row.
+CREATE TABLE IF NOT EXISTS PLAYER_DATA_LOAD (
+    SOURCE    VARCHAR(255) NOT NULL PRIMARY KEY,
+    CHECKSUM  VARCHAR(64)  NOT NULL,
+    ROW_COUNT BIGINT       NOT NULL,
+    LOADED_AT TIMESTAMP    NOT NULL
+);
+
+-- Rows are loaded by PlayerDataLoader and the secondary indexes in indexes.sql are created after the load.
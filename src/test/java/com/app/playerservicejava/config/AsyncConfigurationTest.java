@@ -0,0 +1,120 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigurationTest {
+
+    @Test
+    void poolRunsAllThreadsBeforeShedding() throws InterruptedException {
+        ExecutorMonitor monitor = new ExecutorMonitor("test", 5, 4, 30, new SimpleMeterRegistry());
+        ThreadPoolTaskExecutor executor = AsyncConfiguration.threadPool("Test-", 4, 10, 1, monitor);
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(blocking);
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(4, executor.getPoolSize());
+            assertEquals(4, executor.getActiveCount());
+
+            // Only now do tasks wait, and the fifth waiting one is shed
+            for (int i = 0; i < 5; i++) {
+                executor.execute(blocking);
+            }
+            TaskRejectedException rejected = assertThrows(TaskRejectedException.class, () -> executor.execute(blocking));
+            assertTrue(hasSaturatedCause(rejected));
+            assertEquals(4, executor.getPoolSize());
+            assertEquals(5, executor.getQueueSize());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void virtualThreadsShedOverTheLimitInsteadOfBlocking() throws InterruptedException {
+        ExecutorMonitor monitor = new ExecutorMonitor("test", 5, 2, true, 30, new SimpleMeterRegistry());
+        SimpleAsyncTaskExecutor executor = AsyncConfiguration.virtualThreadExecutor("Test-", monitor);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        };
+        try {
+            executor.execute(blocking);
+            executor.execute(blocking);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // The submitter gets the rejection at once rather than waiting for a running task to finish
+            assertTimeoutPreemptively(Duration.ofSeconds(1),
+                    () -> assertThrows(ExecutorSaturatedException.class, () -> executor.execute(blocking)));
+
+            release.countDown();
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+            CountDownLatch ran = new CountDownLatch(1);
+            // Permits come back once the tasks are done, just after they count down
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                while (true) {
+                    try {
+                        executor.execute(ran::countDown);
+                        return;
+                    } catch (ExecutorSaturatedException e) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.close();
+        }
+    }
+
+    @Test
+    void retryAfterIsFoundThroughWrappingRejections() {
+        TaskRejectedException wrapped = new TaskRejectedException("Executor rejected task",
+                new ExecutorSaturatedException("saturated", 7));
+
+        assertEquals(7, ExecutorSaturatedException.retryAfterSeconds(wrapped));
+        assertEquals(ExecutorSaturatedException.DEFAULT_RETRY_AFTER_SECONDS,
+                ExecutorSaturatedException.retryAfterSeconds(new TaskRejectedException("queue full")));
+    }
+
+    private static boolean hasSaturatedCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ExecutorSaturatedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.security.AuthenticatedPrincipal;
+import com.app.playerservicejava.security.SecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class CustomAuthenticationFilterTest {
+
+    private final AtomicInteger hashChecks = new AtomicInteger();
+    private CustomAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getVerificationLimit().setCapacity(3);
+        properties.getVerificationLimit().setRefillPerSecond(0.001);
+        filter = new CustomAuthenticationFilter((username, password) -> {
+            hashChecks.incrementAndGet();
+            return "admin".equals(username) && Arrays.equals("secret".toCharArray(), password)
+                    ? Optional.of(new AuthenticatedPrincipal("admin", "ADMIN")) : Optional.empty();
+        }, properties, new SimpleMeterRegistry());
+    }
+
+    private MockHttpServletResponse call(String remoteAddr, String username, String password) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/players");
+        request.setRemoteAddr(remoteAddr);
+        String credentials = username + ":" + password;
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void repeatedWrongPasswordIsHashedOnce() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(401, call("10.0.0.1", "admin", "wrong").getStatus());
+        }
+        assertEquals(1, hashChecks.get());
+    }
+
+    @Test
+    void randomCredentialsAreThrottledPerAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(401, call("10.0.0.1", "admin", "guess" + i).getStatus());
+        }
+        MockHttpServletResponse throttled = call("10.0.0.1", "admin", "guess3");
+        assertEquals(429, throttled.getStatus());
+        assertNotNull(throttled.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(3, hashChecks.get());
+
+        // Other clients keep their own budget
+        assertEquals(200, call("10.0.0.2", "admin", "secret").getStatus());
+    }
+
+    @Test
+    void verifiedCredentialsSkipTheLimit() throws Exception {
+        assertEquals(200, call("10.0.0.1", "admin", "secret").getStatus());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, call("10.0.0.1", "admin", "secret").getStatus());
+        }
+        assertEquals(1, hashChecks.get());
+    }
+}
@@ -0,0 +1,84 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.security.AuthenticatedPrincipal;
+import com.app.playerservicejava.security.RateLimitProperties;
+import com.app.playerservicejava.security.SecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class RateLimitFilterTest {
+
+    private final AtomicInteger hashChecks = new AtomicInteger();
+    private RateLimitFilter rateLimitFilter;
+    private CustomAuthenticationFilter authenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        authenticationFilter = new CustomAuthenticationFilter((username, password) -> {
+            hashChecks.incrementAndGet();
+            return "admin".equals(username) && Arrays.equals("secret".toCharArray(), password)
+                    ? Optional.of(new AuthenticatedPrincipal("admin", "ADMIN")) : Optional.empty();
+        }, new SecurityProperties(), new SimpleMeterRegistry());
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(2);
+        properties.setRefillPerSecond(0.001);
+        rateLimitFilter = new RateLimitFilter(properties, authenticationFilter, new SimpleMeterRegistry());
+    }
+
+    // Both filters in their registered order, in front of a servlet that answers 200
+    private MockHttpServletResponse call(String remoteAddr, String username, String password) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/players/aaronha01");
+        request.setRemoteAddr(remoteAddr);
+        String credentials = username + ":" + password;
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            }
+        }, rateLimitFilter, authenticationFilter).doFilter(request, response);
+        return response;
+    }
+
+    @Test
+    void overLimitClientsNeverReachTheHashCheck() throws Exception {
+        assertEquals(401, call("10.0.0.1", "user1", "guess").getStatus());
+        assertEquals(401, call("10.0.0.1", "user2", "guess").getStatus());
+        // Made-up usernames share the address bucket instead of each getting a fresh one
+        MockHttpServletResponse limited = call("10.0.0.1", "user3", "guess");
+        assertEquals(429, limited.getStatus());
+        assertNotNull(limited.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(2, hashChecks.get());
+    }
+
+    @Test
+    void verifiedUsersAreLimitedByUsername() throws Exception {
+        // The first request is not verified yet, so it spends from the address bucket
+        assertEquals(200, call("10.0.0.1", "admin", "secret").getStatus());
+        assertEquals(200, call("10.0.0.1", "admin", "secret").getStatus());
+        assertEquals(200, call("10.0.0.1", "admin", "secret").getStatus());
+        assertEquals(429, call("10.0.0.1", "admin", "secret").getStatus());
+
+        // The address bucket still has the token the user did not spend
+        assertEquals(401, call("10.0.0.1", "intruder", "guess").getStatus());
+        assertEquals(429, call("10.0.0.1", "intruder", "guess").getStatus());
+    }
+}
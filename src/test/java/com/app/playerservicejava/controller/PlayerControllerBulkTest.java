@@ -0,0 +1,41 @@
+package com.app.playerservicejava.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=0s")
+@AutoConfigureMockMvc(addFilters = false)
+class PlayerControllerBulkTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void unreadableBodyIsBadRequest() throws Exception {
+        mockMvc.perform(post("/v1/players/bulk").contentType(MediaType.APPLICATION_JSON).content("{\"playerId\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        mockMvc.perform(post("/v1/players/bulk").contentType(MediaType.APPLICATION_JSON).content("[not json]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        // Fails on the first token, inside readValues rather than while iterating
+        mockMvc.perform(post("/v1/players/bulk").contentType(MediaType.APPLICATION_JSON).content("not json"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void emptyBodyUpsertsNothing() throws Exception {
+        mockMvc.perform(post("/v1/players/bulk").contentType(MediaType.APPLICATION_NDJSON).content(""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(0));
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.playerservicejava.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Filters off: this is about conditional requests, not authentication or rate limits
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=0s")
+@AutoConfigureMockMvc(addFilters = false)
+class PlayerControllerStatsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void ifNoneMatchIsEvaluatedLikeAnyConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/v1/players/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/players/stats").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/players/stats").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/players/stats").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/players/stats").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/players/stats").header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.playerservicejava.controller;
+
+import com.app.playerservicejava.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"player-service.lookup.simulated-delay=0s", "player-service.stream.max-concurrent=1"})
+@AutoConfigureMockMvc(addFilters = false)
+class PlayerControllerStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void streamOverTheLimitIsShedAndTheSlotComesBack() throws Exception {
+        // Stands in for a slow client still reading its stream
+        playerService.tryStartStream();
+        try {
+            mockMvc.perform(get("/v1/players/stream").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            playerService.endStream();
+        }
+
+        MvcResult streaming = mockMvc.perform(get("/v1/players/stream").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(streaming)).andExpect(status().isOk());
+
+        // Released once the body was written
+        assertTrue(playerService.tryStartStream());
+        playerService.endStream();
+    }
+}
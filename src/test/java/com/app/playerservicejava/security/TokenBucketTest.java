@@ -0,0 +1,97 @@
+package com.app.playerservicejava.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 5, now);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.tryConsume(1, now));
+        }
+        long wait = bucket.tryConsume(1, now);
+        assertEquals(SECOND / 5, wait);
+        assertEquals(0, bucket.availableTokens(now));
+        assertEquals(2 * SECOND, bucket.nanosUntilFull(now));
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 5, now);
+        assertEquals(0, bucket.tryConsume(10, now));
+
+        now += SECOND;
+        assertEquals(5, bucket.availableTokens(now));
+        assertEquals(0, bucket.tryConsume(5, now));
+        assertTrue(bucket.tryConsume(1, now) > 0);
+
+        // Idle time never accumulates more than capacity
+        now += 60 * SECOND;
+        assertEquals(10, bucket.availableTokens(now));
+    }
+
+    @Test
+    void weightedCostIsRejectedWithoutConsumingWhenShort() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 1, now);
+        assertEquals(0, bucket.tryConsume(8, now));
+
+        long wait = bucket.tryConsume(5, now);
+        assertEquals(3 * SECOND, wait);
+        // The rejected request took nothing
+        assertEquals(2, bucket.availableTokens(now));
+        assertEquals(0, bucket.tryConsume(2, now));
+    }
+
+    @Test
+    void concurrentCallersNeverOverdraw() throws Exception {
+        int threads = 16;
+        int attemptsPerThread = 10_000;
+        long now = System.nanoTime();
+        // Refill so slow that nothing comes back during the test
+        TokenBucket bucket = new TokenBucket(1_000, 0.001, now);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (bucket.tryConsume(1, now) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1_000, granted);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.config.CachingConfiguration;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The simulated delay sits between the database read and the cache put, which is where a write can slip in
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=1s")
+class PlayerServiceCacheTest {
+
+    private static final String PLAYER_ID = "zzcachetest";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerBulkService playerBulkService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void removePlayer() {
+        playerRepository.deleteById(PLAYER_ID);
+        cacheManager.getCache(CachingConfiguration.PLAYERS_CACHE).evict(PLAYER_ID);
+    }
+
+    private static Player player(String firstName) {
+        Player player = new Player();
+        player.setPlayerId(PLAYER_ID);
+        player.setFirstName(firstName);
+        return player;
+    }
+
+    // Starts a lookup and returns once it has read the (absent) row and is waiting to cache it
+    private CompletableFuture<Optional<Player>> lookupInFlight() throws InterruptedException {
+        CompletableFuture<Optional<Player>> lookup = new CompletableFuture<>();
+        Thread loader = new Thread(() -> lookup.complete(playerService.getPlayerById(PLAYER_ID)), "cache-test-lookup");
+        loader.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!inSimulatedDelay(loader)) {
+            assertTrue(loader.isAlive() && System.nanoTime() < deadline, "lookup never reached the simulated delay");
+            Thread.sleep(5);
+        }
+        return lookup;
+    }
+
+    // The delay is a Thread.sleep in PlayerService, after the database read
+    private static boolean inSimulatedDelay(Thread thread) {
+        if (thread.getState() != Thread.State.TIMED_WAITING) {
+            return false;
+        }
+        StackTraceElement[] stack = thread.getStackTrace();
+        for (int i = 0; i + 1 < stack.length; i++) {
+            if (stack[i].getClassName().equals(Thread.class.getName()) && stack[i].getMethodName().equals("sleep")
+                    && Arrays.stream(stack, i + 1, stack.length)
+                            .dropWhile(frame -> frame.getClassName().equals(Thread.class.getName()))
+                            .findFirst()
+                            .filter(frame -> frame.getClassName().equals(PlayerService.class.getName()))
+                            .isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void saveDuringALoadIsNotOverwrittenByIt() throws Exception {
+        CompletableFuture<Optional<Player>> lookup = lookupInFlight();
+        playerService.savePlayer(player("Saved"));
+
+        assertTrue(lookup.get().isEmpty());
+        assertEquals("Saved", playerService.getPlayerById(PLAYER_ID).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void bulkUpsertDuringALoadIsNotOverwrittenByIt() throws Exception {
+        CompletableFuture<Optional<Player>> lookup = lookupInFlight();
+        playerBulkService.upsertPlayers(List.of(player("Upserted")).iterator(), null);
+
+        assertTrue(lookup.get().isEmpty());
+        assertEquals("Upserted", playerService.getPlayerById(PLAYER_ID).orElseThrow().getFirstName());
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.playerservicejava.service;
+
+import com.app.playerservicejava.model.KeysetPlayersResponse;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=0s")
+class PlayerServiceKeysetTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void unknownSortByIsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersKeyset(null, 10, "nickname", "asc"));
+    }
+
+    @Test
+    void tamperedCursorValueIsIllegalArgument() {
+        String badYear = new KeysetCursor("birthYear", Sort.Direction.ASC, "19x4", "aaronha01").encode();
+        String badDate = new KeysetCursor("debut", Sort.Direction.ASC, "1954-13-40", "aaronha01").encode();
+
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersKeyset(badYear, 10, "birthYear", "asc"));
+        assertThrows(IllegalArgumentException.class, () -> playerService.getPlayersKeyset(badDate, 10, "debut", "asc"));
+    }
+
+    @Test
+    void issuedCursorContinuesAfterLastRow() {
+        KeysetPlayersResponse first = playerService.getPlayersKeyset(null, 5, "birthYear", "asc");
+        assertTrue(first.isHasNext());
+
+        KeysetPlayersResponse second = playerService.getPlayersKeyset(first.getNextCursor(), 5, "birthYear", "asc");
+        assertEquals(5, second.getPlayers().size());
+        assertTrue(second.getPlayers().stream().noneMatch(first.getPlayers()::contains));
+    }
+
+    @Test
+    void walkVisitsEveryPlayerOnceInOrder() {
+        long players = playerRepository.count();
+        for (String direction : List.of("asc", "desc")) {
+            // birthYear has NULLs: first when ascending, last when descending
+            Comparator<Player> order = Comparator.comparing(Player::getBirthYear, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(Player::getPlayerId);
+            if (direction.equals("desc")) {
+                order = order.reversed();
+            }
+            List<Player> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                KeysetPlayersResponse page = playerService.getPlayersKeyset(cursor, 500, "birthYear", direction);
+                walked.addAll(page.getPlayers());
+                cursor = page.isHasNext() ? page.getNextCursor() : null;
+            } while (cursor != null);
+
+            assertEquals(players, walked.size(), direction);
+            for (int i = 1; i < walked.size(); i++) {
+                assertTrue(order.compare(walked.get(i - 1), walked.get(i)) < 0, direction + " at " + i);
+            }
+        }
+    }
+}
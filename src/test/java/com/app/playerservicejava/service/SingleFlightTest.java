@@ -0,0 +1,134 @@
+package com.app.playerservicejava.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    @Test
+    void thunderingHerdOnSameKeyRunsOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = blockingLoader(singleFlight, loads);
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return singleFlight.execute("aaronha01", loader);
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("aaronha01-loaded", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void asyncCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = blockingLoader(singleFlight, loads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(singleFlight.submit("aaronha01", loader, pool));
+            }
+            for (CompletableFuture<String> result : results) {
+                assertEquals("aaronha01-loaded", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void attachedCallersShareOneAsyncLoad() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(singleFlight.attach("aaronha01", () -> {
+                loads.incrementAndGet();
+                return load;
+            }));
+        }
+        // One caller cancelling its copy leaves the load and the other callers alone
+        results.get(1).cancel(true);
+        load.complete("aaronha01-loaded");
+
+        for (CompletableFuture<String> result : results) {
+            if (!result.isCancelled()) {
+                assertEquals("aaronha01-loaded", result.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void attachedLoadIsCancelledOnceEveryCallerCancels() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.attach("aaronha01", () -> load);
+        CompletableFuture<String> second = singleFlight.attach("aaronha01", () -> load);
+
+        first.cancel(true);
+        assertFalse(load.isCancelled());
+        second.cancel(true);
+        assertTrue(load.isCancelled());
+        assertEquals(0, singleFlight.getInFlightCount());
+
+        // The next caller starts a fresh load instead of joining the abandoned one
+        CompletableFuture<String> fresh = singleFlight.attach("aaronha01", () -> CompletableFuture.completedFuture("again"));
+        assertEquals("again", fresh.join());
+    }
+
+    /**
+     * Loader that holds the flight open until every other caller has joined it, so the test does not race.
+     */
+    private static Supplier<String> blockingLoader(SingleFlight<String, String> singleFlight, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.getCoalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return "aaronha01-loaded";
+        };
+    }
+}
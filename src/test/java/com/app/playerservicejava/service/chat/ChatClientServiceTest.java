@@ -0,0 +1,186 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.OllamaAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatClientServiceTest {
+
+    private OllamaStubServer stub;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    private ChatClientService service(OllamaStubServer server, int maxConcurrentGenerations) {
+        stub = server;
+        ChatProperties properties = new ChatProperties();
+        properties.setHost(stub.url());
+        properties.setMaxConcurrentGenerations(maxConcurrentGenerations);
+        properties.setGenerationTimeout(Duration.ofSeconds(30));
+        properties.setModels(List.of("llama3"));
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        return new ChatClientService(properties, new OllamaAPI(stub.url().toString()), httpClient, new ObjectMapper(),
+                meterRegistry);
+    }
+
+    private static ChatRequest request(String model) {
+        return new ChatRequest(model, "Recite a haiku about recursion.", null);
+    }
+
+    @Test
+    void tokensArriveAsTheyAreGenerated() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ofMillis(50), Duration.ofMillis(100), 10), 4);
+        List<String> received = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        long[] firstTokenAt = new long[1];
+
+        ChatCompletion completion = service.generate(request("tinyllama"), token -> {
+            if (received.isEmpty()) {
+                firstTokenAt[0] = System.nanoTime() - start;
+            }
+            received.add(token);
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(10, received.size());
+        assertEquals(OllamaStubServer.token(0), received.get(0));
+        assertEquals(10, completion.getTokens());
+        assertNull(completion.getResponse());
+        // The first token is seen long before the ~950ms generation ends
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(firstTokenAt[0]) < 500, "first token after " + firstTokenAt[0] + "ns");
+        assertTrue(completion.getTotalMs() >= 900);
+    }
+
+    @Test
+    void tokensAreCollectedWithoutCallback() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ZERO, Duration.ZERO, 3), 4);
+
+        ChatCompletion completion = service.generate(null, null).get(10, TimeUnit.SECONDS);
+
+        assertEquals("tinyllama", completion.getModel());
+        assertEquals(OllamaStubServer.token(0) + OllamaStubServer.token(1) + OllamaStubServer.token(2), completion.getResponse());
+    }
+
+    @Test
+    void unknownModelIsNotFound() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ZERO, Duration.ZERO, 3), 4);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> service.generate(request(OllamaStubServer.MISSING_MODEL), null).get(10, TimeUnit.SECONDS));
+
+        assertEquals(404, assertInstanceOf(ChatException.class, e.getCause()).getStatus().value());
+    }
+
+    @Test
+    void invalidModelNameIsRejected() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ZERO, Duration.ZERO, 3), 4);
+
+        assertThrows(IllegalArgumentException.class, () -> service.generate(request("../api/delete"), null));
+    }
+
+    @Test
+    void concurrentGenerationsAreCappedPerModel() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ofSeconds(5), Duration.ZERO, 1), 2);
+
+        CompletableFuture<ChatCompletion> first = service.generate(request("tinyllama"), token -> { });
+        service.generate(request("tinyllama"), token -> { });
+
+        ChatException rejected = assertThrows(ChatException.class, () -> service.generate(request("tinyllama"), token -> { }));
+        assertEquals(503, rejected.getStatus().value());
+        // Another model has its own permits
+        service.generate(request("llama3"), token -> { });
+
+        first.cancel(true);
+        service.generate(request("tinyllama"), token -> { });
+    }
+
+    @Test
+    void unconfiguredModelsShareOnePoolAndAddNoTags() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ofSeconds(5), Duration.ZERO, 1), 2);
+
+        service.generate(request("made-up-1"), token -> { });
+        service.generate(request("made-up-2"), token -> { });
+        ChatException rejected = assertThrows(ChatException.class, () -> service.generate(request("made-up-3"), token -> { }));
+        assertEquals(503, rejected.getStatus().value());
+        // Configured models keep their own permits
+        service.generate(request("llama3"), token -> { });
+
+        assertEquals(2.0, meterRegistry.get("player.chat.in.flight").tag("model", "other").gauge().value());
+        assertNull(meterRegistry.find("player.chat.in.flight").tag("model", "made-up-1").gauge());
+        assertEquals(3, meterRegistry.find("player.chat.in.flight").gauges().size());
+    }
+
+    @Test
+    void cancellingStopsTheUpstreamGeneration() throws Exception {
+        ChatClientService service = service(new OllamaStubServer(Duration.ZERO, Duration.ofMillis(50), 200), 4);
+        CompletableFuture<ChatCompletion> generation = service.generate(request("tinyllama"), token -> { });
+        Thread.sleep(200);
+
+        generation.cancel(true);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stub.abandoned() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, stub.abandoned());
+    }
+
+    @Test
+    void inFlightChatsHoldNoPlatformThreadEach() throws Exception {
+        int chats = Math.max(64, 4 * Runtime.getRuntime().availableProcessors());
+        ChatClientService service = service(new OllamaStubServer(Duration.ofMillis(200), Duration.ofMillis(100), 20), chats);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        // Warm up the client's selector and the virtual-thread carriers
+        service.generate(request("tinyllama"), token -> { }).get(10, TimeUnit.SECONDS);
+        int before = threads.getThreadCount();
+
+        List<CompletableFuture<ChatCompletion>> generations = new ArrayList<>();
+        for (int i = 0; i < chats; i++) {
+            generations.add(service.generate(request("tinyllama"), token -> { }));
+        }
+        Thread.sleep(1000);
+        int during = threads.getThreadCount();
+        CompletableFuture.allOf(generations.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // ThreadMXBean counts platform threads only; carriers are bounded by the processor count
+        assertTrue(during - before < chats / 2, chats + " chats added " + (during - before) + " platform threads");
+        for (CompletableFuture<ChatCompletion> generation : generations) {
+            assertEquals(20, generation.get().getTokens());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.ChatCompletion;
+import com.app.playerservicejava.model.ChatRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.OllamaAPI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatResponseCacheTest {
+
+    private OllamaStubServer stub;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    private ChatResponseCache cache(Duration firstTokenDelay, boolean similarity) throws IOException {
+        return cache(new OllamaStubServer(firstTokenDelay, Duration.ZERO, 3), similarity);
+    }
+
+    private ChatResponseCache cache(OllamaStubServer server, boolean similarity) {
+        stub = server;
+        ChatProperties properties = new ChatProperties();
+        properties.setHost(stub.url());
+        properties.getCache().getSimilarity().setEnabled(similarity);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        meterRegistry = new SimpleMeterRegistry();
+        ChatClientService service = new ChatClientService(properties, new OllamaAPI(stub.url().toString()), httpClient,
+                new ObjectMapper(), meterRegistry);
+        return new ChatResponseCache(properties, service, new ObjectMapper(), meterRegistry);
+    }
+
+    private static ChatRequest request(String prompt, Map<String, Object> options) {
+        return new ChatRequest("tinyllama", prompt, options);
+    }
+
+    @Test
+    void repeatedPromptIsAnsweredFromCache() throws Exception {
+        ChatResponseCache cache = cache(Duration.ofMillis(100), false);
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("temperature", 0);
+        options.put("seed", 42);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("seed", 42);
+        reordered.put("temperature", 0);
+
+        ChatCompletion first = cache.generate(request("Who hit the most home runs?", options)).get(10, TimeUnit.SECONDS);
+        ChatCompletion second = cache.generate(request("Who hit the most home runs?  ", reordered)).get(10, TimeUnit.SECONDS);
+
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        assertEquals(first.getResponse(), second.getResponse());
+        assertEquals(1, stub.generations());
+        assertTrue(meterRegistry.counter("player.chat.cache.saved.time").count() >= 0.1);
+    }
+
+    @Test
+    void differentOptionsAreDifferentRequests() throws Exception {
+        ChatResponseCache cache = cache(Duration.ZERO, false);
+
+        cache.generate(request("Who hit the most home runs?", Map.of("temperature", 0))).get(10, TimeUnit.SECONDS);
+        cache.generate(request("Who hit the most home runs?", Map.of("temperature", 1))).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, stub.generations());
+    }
+
+    @Test
+    void identicalRequestsInFlightShareOneGeneration() throws Exception {
+        ChatResponseCache cache = cache(Duration.ofMillis(500), false);
+
+        List<CompletableFuture<ChatCompletion>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(cache.generate(request("Who hit the most home runs?", null)));
+        }
+        for (CompletableFuture<ChatCompletion> result : results) {
+            assertEquals(3, result.get(10, TimeUnit.SECONDS).getTokens());
+        }
+
+        assertEquals(1, stub.generations());
+        assertEquals(19.0, meterRegistry.get("player.chat.cache.coalesced").functionCounter().count());
+    }
+
+    @Test
+    void nearDuplicatePromptReusesAnswerWhenSimilarityIsOn() throws Exception {
+        ChatResponseCache cache = cache(Duration.ZERO, true);
+
+        ChatCompletion first = cache.generate(request("Who hit the most home runs?", null)).get(10, TimeUnit.SECONDS);
+        ChatCompletion second = cache.generate(request("who hit the MOST home runs", null)).get(10, TimeUnit.SECONDS);
+        cache.generate(request("Who pitched the most innings?", null)).get(10, TimeUnit.SECONDS);
+
+        assertTrue(second.isCached());
+        assertEquals(first.getResponse(), second.getResponse());
+        assertEquals(2, stub.generations());
+    }
+
+    @Test
+    void sharedGenerationStopsWhenItsLastCallerCancels() throws Exception {
+        ChatResponseCache cache = cache(new OllamaStubServer(Duration.ZERO, Duration.ofMillis(50), 200), true);
+        CompletableFuture<ChatCompletion> first = cache.generate(request("Who hit the most home runs?", null));
+        CompletableFuture<ChatCompletion> second = cache.generate(request("Who hit the most home runs?", null));
+        Thread.sleep(300);
+
+        first.cancel(true);
+        Thread.sleep(300);
+        assertEquals(0, stub.abandoned());
+        assertEquals(1.0, inFlight());
+
+        second.cancel(true);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stub.abandoned() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, stub.abandoned());
+        assertEquals(0.0, inFlight());
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("player.chat.in.flight").tag("model", "tinyllama").gauge().value();
+    }
+}
@@ -0,0 +1,133 @@
+package com.app.playerservicejava.service.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for Ollama's /api/generate and /api/tags. Streams {@code tokens} NDJSON chunks, the first
+ * after {@code firstTokenDelay} (model load plus prompt evaluation) and the rest {@code tokenInterval} apart,
+ * so time-to-first-token and threads held per in-flight chat can be measured without a model. The model
+ * {@code missing} answers 404 like an unpulled model. Embeddings are bags of lower-cased words, so prompts that
+ * differ only in case and punctuation embed identically.
+ */
+class OllamaStubServer implements AutoCloseable {
+
+    static final String MISSING_MODEL = "missing";
+
+    private static final int EMBEDDING_DIMENSIONS = 64;
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration firstTokenDelay;
+    private final Duration tokenInterval;
+    private final int tokens;
+    private final AtomicInteger generations = new AtomicInteger();
+    private final AtomicInteger abandoned = new AtomicInteger();
+
+    OllamaStubServer(Duration firstTokenDelay, Duration tokenInterval, int tokens) throws IOException {
+        this.firstTokenDelay = firstTokenDelay;
+        this.tokenInterval = tokenInterval;
+        this.tokens = tokens;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/generate", this::generate);
+        server.createContext("/api/embeddings", this::embed);
+        server.createContext("/api/tags", exchange -> respond(exchange, 200,
+                "{\"models\":[{\"name\":\"tinyllama:latest\",\"model\":\"tinyllama:latest\",\"size\":637700138}]}"));
+        server.start();
+    }
+
+    URI url() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    static String token(int index) {
+        return "t" + index + " ";
+    }
+
+    int generations() {
+        return generations.get();
+    }
+
+    /**
+     * Generations whose client disconnected before the last token.
+     */
+    int abandoned() {
+        return abandoned.get();
+    }
+
+    private void generate(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        String model = request.path("model").asText();
+        if (MISSING_MODEL.equals(model)) {
+            respond(exchange, 404, "{\"error\":\"model \\\"missing\\\" not found, try pulling it first\"}");
+            return;
+        }
+        generations.incrementAndGet();
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            sleep(firstTokenDelay);
+            for (int i = 0; i < tokens; i++) {
+                if (i > 0) {
+                    sleep(tokenInterval);
+                }
+                write(out, "{\"model\":\"" + model + "\",\"response\":\"" + token(i) + "\",\"done\":false}");
+            }
+            write(out, "{\"model\":\"" + model + "\",\"response\":\"\",\"done\":true,\"eval_count\":" + tokens + "}");
+        } catch (IOException e) {
+            abandoned.incrementAndGet();
+        }
+    }
+
+    private void embed(HttpExchange exchange) throws IOException {
+        String prompt = objectMapper.readTree(exchange.getRequestBody()).path("prompt").asText();
+        double[] embedding = new double[EMBEDDING_DIMENSIONS];
+        for (String word : prompt.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+            if (!word.isEmpty()) {
+                embedding[Math.floorMod(word.hashCode(), EMBEDDING_DIMENSIONS)] += 1;
+            }
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(Map.of("embedding", embedding)));
+    }
+
+    private static void write(OutputStream out, String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.playerservicejava.service.chat;
+
+import com.app.playerservicejava.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerChatServiceTest {
+
+    private static Player aaron(String id) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName("Hank");
+        player.setLastName("Aaron");
+        player.setGivenName("Henry Louis");
+        player.setBirthYear(1934);
+        player.setBirthMonth(2);
+        player.setBirthDay(5);
+        player.setBirthCity("Mobile");
+        player.setBirthState("AL");
+        player.setBirthCountry("USA");
+        player.setBats("R");
+        player.setThrowStats("R");
+        player.setHeight(72);
+        player.setWeight(180);
+        player.setDebut(LocalDate.of(1954, 4, 13));
+        return player;
+    }
+
+    @Test
+    void recordHasOnlyTheFieldsThatAreSet() {
+        assertEquals("aaronha01: Hank Aaron (Henry Louis); born 1934-2-5 in Mobile, AL, USA; bats R, throws R; "
+                + "72 in, 180 lb; debut 1954-04-13", PlayerChatService.describe(aaron("aaronha01")));
+    }
+
+    @Test
+    void packingStopsAtTheTokenBudget() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            players.add(aaron("aaronha" + i));
+        }
+        int recordTokens = (PlayerChatService.describe(aaron("aaronha0")).length() + 1 + 3) / 4;
+
+        PlayerChatService.PackedContext context = PlayerChatService.pack(players, recordTokens * 10 + recordTokens / 2, 4);
+
+        assertEquals(10, context.playerIds.size());
+        assertEquals("aaronha0", context.playerIds.get(0));
+        assertEquals(40, context.dropped);
+        assertTrue(context.tokens <= recordTokens * 10 + recordTokens / 2);
+    }
+}
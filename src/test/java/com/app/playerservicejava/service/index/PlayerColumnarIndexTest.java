@@ -0,0 +1,45 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayerColumnarIndexTest {
+
+    private PlayerColumnarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerColumnarIndex();
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(player("aaronha01", 1934), player("ruthba01", 1895))));
+    }
+
+    private static Player player(String id, int birthYear) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthYear(birthYear);
+        return player;
+    }
+
+    private static PlayerSearchCriteria sortedByBirthYear(String direction) {
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria();
+        criteria.setSortBy("birthYear");
+        criteria.setSortDirection(direction);
+        criteria.setLimit(10);
+        return criteria;
+    }
+
+    @Test
+    void sortDirectionIsParsedLikeTheOtherEndpoints() {
+        assertEquals("ruthba01", index.search(sortedByBirthYear(null)).getPlayers().get(0).getPlayerId());
+        assertEquals("aaronha01", index.search(sortedByBirthYear("DESC")).getPlayers().get(0).getPlayerId());
+        assertThrows(IllegalArgumentException.class, () -> index.search(sortedByBirthYear("dsc")));
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerFilterTest {
+
+    private static final List<Player> PLAYERS = List.of(player("blank01", ""), player("null01", null), player("usa01", "USA"));
+
+    private static Player player(String id, String country) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthCountry(country);
+        return player;
+    }
+
+    // No countries leaves the column unfiltered
+    private static PlayerSearchCriteria bornIn(String... countries) {
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria();
+        criteria.setBirthCountries(Arrays.asList(countries));
+        criteria.setLimit(10);
+        return criteria;
+    }
+
+    // What the columnar index returns and what the filter accepts player by player (the text index and events)
+    private static void assertBothPathsMatch(List<String> expected, PlayerSearchCriteria criteria) {
+        PlayerColumnarIndex index = new PlayerColumnarIndex();
+        index.onPlayersChanged(new PlayersChangedEvent(PLAYERS));
+        PlayerFilter filter = PlayerFilter.of(criteria);
+
+        assertEquals(expected, index.search(criteria).getPlayers().stream().map(Player::getPlayerId).toList());
+        assertEquals(expected, PLAYERS.stream().filter(filter::matches).map(Player::getPlayerId).toList());
+    }
+
+    @Test
+    void emptyStringIsAMissingValue() {
+        assertBothPathsMatch(List.of(), bornIn(""));
+        assertBothPathsMatch(List.of(), bornIn((String) null));
+        assertBothPathsMatch(List.of("usa01"), bornIn("USA", ""));
+        assertBothPathsMatch(List.of("blank01", "null01", "usa01"), bornIn());
+    }
+}
@@ -0,0 +1,105 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerNameMatch;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import com.app.playerservicejava.service.team.TeamFeatureIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerIndexLoaderTest {
+
+    private final PlayerColumnarIndex columnar = new PlayerColumnarIndex();
+    private final PlayerTextIndex text = new PlayerTextIndex();
+    private final PlayerNameIndex names = new PlayerNameIndex();
+    private final PlayerStatsAggregates stats = new PlayerStatsAggregates();
+    private final TeamFeatureIndex teams = new TeamFeatureIndex();
+    private final List<PlayerIndex> indexes = List.of(columnar, text, names, stats, teams);
+
+    private static Player player(String id, String first, String last, String country, int weight) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(first);
+        player.setLastName(last);
+        player.setBirthCountry(country);
+        player.setBirthYear(1900);
+        player.setHeight(72);
+        player.setWeight(weight);
+        player.setBats("R");
+        player.setThrowStats("R");
+        return player;
+    }
+
+    private static PlayerSearchCriteria bornIn(String country) {
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria();
+        criteria.setBirthCountries(List.of(country));
+        criteria.setLimit(10);
+        return criteria;
+    }
+
+    @Test
+    void loadsEveryIndexFromOnePass() {
+        PlayerService playerService = mock(PlayerService.class);
+        when(playerService.streamPlayers(any())).thenAnswer(invocation -> {
+            Consumer<Player> sink = invocation.getArgument(0);
+            sink.accept(player("aaronha01", "Hank", "Aaron", "USA", 180));
+            sink.accept(player("ruthba01", "Babe", "Ruth", "USA", 215));
+            return 2L;
+        });
+
+        new PlayerIndexLoader(playerService, indexes).afterSingletonsInstantiated();
+
+        verify(playerService, times(1)).streamPlayers(any());
+        assertEquals(2, columnar.search(bornIn("USA")).getTotalMatches());
+        assertEquals("ruthba01", text.search("Ruth", null, 10).get(0).getPlayerId());
+        assertEquals("aaronha01", names.search("aaron", 10, false).getMatches().get(0).getPlayerId());
+        assertEquals(2, stats.snapshot().getPlayers());
+        assertTrue(teams.contains("ruthba01"));
+    }
+
+    @Test
+    void changePublishedDuringThePassIsAppliedAfterIt() throws Exception {
+        PlayersChangedEvent event = new PlayersChangedEvent(List.of(
+                player("ruthba01", "Babe", "Ruth", "Canada", 215),
+                player("gehrilo01", "Lou", "Gehrig", "USA", 200)));
+        // Delivers the event the way Spring does, one listener after another, on the writer's thread
+        Thread publisher = new Thread(() -> indexes.forEach(index -> index.onPlayersChanged(event)));
+
+        PlayerService playerService = mock(PlayerService.class);
+        when(playerService.streamPlayers(any())).thenAnswer(invocation -> {
+            Consumer<Player> sink = invocation.getArgument(0);
+            sink.accept(player("aaronha01", "Hank", "Aaron", "USA", 180));
+            publisher.start();
+            while (publisher.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            // Read before the change committed, so the load holds the old row
+            sink.accept(player("ruthba01", "Babe", "Ruth", "USA", 215));
+            return 2L;
+        });
+
+        new PlayerIndexLoader(playerService, indexes).afterSingletonsInstantiated();
+        publisher.join(10_000);
+
+        assertEquals(List.of("ruthba01"), columnar.search(bornIn("Canada")).getPlayers().stream()
+                .map(Player::getPlayerId).toList());
+        assertEquals(2, columnar.search(bornIn("USA")).getTotalMatches());
+        assertEquals("gehrilo01", text.search("Gehrig", null, 10).get(0).getPlayerId());
+        assertEquals(List.of("gehrilo01"), names.search("gehrig", 10, false).getMatches().stream()
+                .map(PlayerNameMatch::getPlayerId).toList());
+        assertEquals(3, stats.snapshot().getPlayers());
+        assertEquals(3, teams.size());
+    }
+}
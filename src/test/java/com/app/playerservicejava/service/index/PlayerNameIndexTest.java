@@ -0,0 +1,107 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerNameMatch;
+import com.app.playerservicejava.model.PlayerNameSearchResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerNameIndexTest {
+
+    private PlayerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerNameIndex();
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(
+                player("aaronha01", "Hank", "Aaron", "Henry Louis"),
+                player("aaronto01", "Tommie", "Aaron", "Tommie Lee"),
+                player("hankspe01", "Aaron", "Hanks", "Aaron Paul"),
+                player("mcgwima01", "Mark", "McGwire", "Mark David"),
+                player("penaca01", "Carlos", "Pe\u00f1a", "Carlos Felipe"),
+                player("oneilpa01", "Paul", "O'Neill", "Paul Andrew"))));
+    }
+
+    private static Player player(String id, String first, String last, String given) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(first);
+        player.setLastName(last);
+        player.setGivenName(given);
+        return player;
+    }
+
+    private static List<String> ids(PlayerNameSearchResponse response) {
+        return response.getMatches().stream().map(PlayerNameMatch::getPlayerId).toList();
+    }
+
+    @Test
+    void lastWordIsAPrefix() {
+        // Hank Aaron beats Aaron Hanks: his Aaron is a last name
+        assertEquals(List.of("aaronha01", "hankspe01"), ids(index.search("aaron h", 10, false)));
+        // Aaron as a last name outranks Aaron as a first name
+        assertEquals(List.of("aaronha01", "aaronto01", "hankspe01"), ids(index.search("aaro", 10, false)));
+    }
+
+    @Test
+    void caseAccentsAndPunctuationAreIgnored() {
+        assertEquals(List.of("mcgwima01"), ids(index.search("Mcgwire", 10, false)));
+        assertEquals(List.of("penaca01"), ids(index.search("pena", 10, false)));
+        assertEquals(List.of("oneilpa01"), ids(index.search("O'Neill", 10, false)));
+    }
+
+    @Test
+    void typosMatchOnlyWhenFuzzy() {
+        assertTrue(index.search("mcgwier", 10, false).getMatches().isEmpty());
+
+        List<PlayerNameMatch> matches = index.search("mcgwier", 10, true).getMatches();
+        assertEquals(1, matches.size());
+        assertEquals("mcgwima01", matches.get(0).getPlayerId());
+        assertTrue(matches.get(0).isFuzzy());
+    }
+
+    @Test
+    void midWordTranspositionsAreFuzzyCandidates() {
+        // Swapping "wi" to "iw" leaves only three of the seven trigrams of "mcgwire"
+        List<PlayerNameMatch> matches = index.search("mcgiwre", 10, true).getMatches();
+        assertEquals(1, matches.size());
+        assertEquals("mcgwima01", matches.get(0).getPlayerId());
+        assertTrue(matches.get(0).isFuzzy());
+    }
+
+    @Test
+    void exactMatchesOutrankFuzzyOnes() {
+        List<PlayerNameMatch> matches = index.search("hanks", 10, true).getMatches();
+        assertEquals("hankspe01", matches.get(0).getPlayerId());
+        assertFalse(matches.get(0).isFuzzy());
+    }
+
+    @Test
+    void editDistanceCountsTranspositionsOnce() {
+        assertEquals(1, PlayerNameIndex.editDistance("mcgwier", "mcgwire", 2));
+        assertEquals(2, PlayerNameIndex.editDistance("aaron", "arno", 2));
+        assertEquals(3, PlayerNameIndex.editDistance("ruth", "aaron", 2));
+    }
+
+    @Test
+    void updateReplacesOldNames() {
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(player("penaca01", "Carlos", "Pena Jr", "Carlos"))));
+
+        assertTrue(index.search("felipe", 10, false).getMatches().isEmpty());
+        assertEquals(List.of("penaca01"), ids(index.search("pena jr", 10, false)));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void overlongQueryIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("a".repeat(101), 10, true));
+    }
+}
@@ -0,0 +1,102 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerStatsResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlayerStatsAggregatesTest {
+
+    private static Player player(String id, String country, String state, Integer debutYear, String bats,
+                                 String throwStats, Integer height, Integer weight) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthCountry(country);
+        player.setBirthState(state);
+        player.setDebut(debutYear == null ? null : LocalDate.of(debutYear, 4, 1));
+        player.setBats(bats);
+        player.setThrowStats(throwStats);
+        player.setHeight(height);
+        player.setWeight(weight);
+        return player;
+    }
+
+    // Enough rows for the build to split into several fork-join partitions
+    private static List<Player> roster() {
+        List<Player> players = new ArrayList<>();
+        String[] countries = {"USA", "D.R.", "Venezuela", "Cuba"};
+        for (int i = 0; i < 10_000; i++) {
+            players.add(player("p" + i, countries[i % countries.length], i % 7 == 0 ? null : "S" + (i % 13),
+                    i % 11 == 0 ? null : 1880 + i % 140, i % 3 == 0 ? "L" : "R", i % 5 == 0 ? "L" : "R",
+                    i % 17 == 0 ? null : 68 + i % 10, 160 + i % 60));
+        }
+        return players;
+    }
+
+    @Test
+    void parallelBuildMatchesOneByOneDeltas() {
+        List<Player> players = roster();
+        PlayerStatsAggregates built = new PlayerStatsAggregates();
+        built.build(players);
+        PlayerStatsAggregates incremental = new PlayerStatsAggregates();
+        incremental.onPlayersChanged(new PlayersChangedEvent(players));
+
+        PlayerStatsResponse expected = built.snapshot();
+        PlayerStatsResponse actual = incremental.snapshot();
+        assertEquals(10_000, expected.getPlayers());
+        assertEquals(expected.getBirthCountries(), actual.getBirthCountries());
+        assertEquals(expected.getBirthStates(), actual.getBirthStates());
+        assertEquals(expected.getDebutDecades(), actual.getDebutDecades());
+        assertEquals(expected.getHandedness(), actual.getHandedness());
+        assertEquals(expected.getEras(), actual.getEras());
+    }
+
+    @Test
+    void saveMovesPlayerBetweenBuckets() {
+        PlayerStatsAggregates aggregates = new PlayerStatsAggregates();
+        aggregates.build(List.of(
+                player("a", "USA", "AL", 1954, "R", "R", 72, 180),
+                player("b", "USA", "GA", 1962, "R", "R", 74, 190),
+                player("c", "Cuba", null, 1955, "L", "L", null, 170)));
+        PlayerStatsResponse before = aggregates.snapshot();
+        assertEquals(0, before.getVersion());
+        assertEquals(2, before.getEras().get("1950s").getPlayers());
+        assertEquals(72.0, before.getEras().get("1950s").getAverageHeight());
+        assertEquals(1L, before.getBirthStates().get(PlayerStatsAggregates.UNKNOWN));
+
+        aggregates.onPlayersChanged(new PlayersChangedEvent(List.of(player("c", "Cuba", "Havana", 1962, "L", "L", 70, 170))));
+
+        PlayerStatsResponse after = aggregates.snapshot();
+        assertEquals(1, after.getVersion());
+        assertFalse(after.getUpdatedAt().isBefore(after.getBuiltAt()));
+        assertEquals(3, after.getPlayers());
+        assertFalse(after.getBirthStates().containsKey(PlayerStatsAggregates.UNKNOWN));
+        assertEquals(1L, after.getDebutDecades().get("1950s"));
+        assertEquals(2L, after.getDebutDecades().get("1960s"));
+        assertEquals(72.0, after.getEras().get("1960s").getAverageHeight());
+        assertEquals(180.0, after.getEras().get("1950s").getAverageWeight());
+    }
+
+    @Test
+    void snapshotIsSharedUntilTheNextChange() {
+        PlayerStatsAggregates aggregates = new PlayerStatsAggregates();
+        aggregates.build(List.of(player("a", "USA", "AL", null, null, null, null, null)));
+
+        PlayerStatsResponse first = aggregates.snapshot();
+        assertSame(first, aggregates.snapshot());
+        assertNull(first.getEras().get(PlayerStatsAggregates.UNKNOWN).getAverageHeight());
+        assertEquals(1L, first.getHandedness().get("unknown/unknown"));
+
+        aggregates.onPlayersChanged(new PlayersChangedEvent(List.of(player("b", "USA", "AL", null, "R", "R", 70, 180))));
+        assertEquals(2L, aggregates.snapshot().getBirthCountries().get("USA"));
+    }
+}
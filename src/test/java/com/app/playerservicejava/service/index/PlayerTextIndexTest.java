@@ -0,0 +1,93 @@
+package com.app.playerservicejava.service.index;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerSearchCriteria;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerTextIndexTest {
+
+    private PlayerTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerTextIndex();
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(
+                player("aaronha01", "Hank", "Aaron", "Mobile", "AL", "USA", 1934),
+                player("aaronto01", "Tommie", "Aaron", "Mobile", "AL", "USA", 1939),
+                player("ruthba01", "Babe", "Ruth", "Baltimore", "MD", "USA", 1895),
+                player("mobilto01", "Tom", "Mobile", "Havana", "La Habana", "Cuba", 1950))));
+    }
+
+    private static Player player(String id, String first, String last, String city, String state, String country, int year) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(first);
+        player.setLastName(last);
+        player.setBirthCity(city);
+        player.setBirthState(state);
+        player.setBirthCountry(country);
+        player.setBirthYear(year);
+        return player;
+    }
+
+    private static List<String> ids(List<Player> players) {
+        return players.stream().map(Player::getPlayerId).toList();
+    }
+
+    @Test
+    void nameMatchesOutrankPlaceMatches() {
+        // "Mobile" is Tom Mobile's surname but only the Aarons' birthplace
+        assertEquals("mobilto01", index.search("Who is Mobile?", null, 10).get(0).getPlayerId());
+        assertEquals(List.of("aaronha01"), ids(index.search("When was Hank Aaron born?", null, 1)));
+    }
+
+    @Test
+    void stopWordsAloneMatchNothing() {
+        assertTrue(index.search("Who was the player born in it?", null, 10).isEmpty());
+    }
+
+    @Test
+    void filtersNarrowTextMatches() {
+        PlayerSearchCriteria filters = new PlayerSearchCriteria();
+        filters.setMinBirthYear(1936);
+
+        assertEquals(List.of("aaronto01"), ids(index.search("Aaron", filters, 10)));
+    }
+
+    @Test
+    void filtersMatchWhatTheColumnarIndexMatches() {
+        PlayerColumnarIndex columnarIndex = new PlayerColumnarIndex();
+        columnarIndex.onPlayersChanged(new PlayersChangedEvent(List.of(
+                player("aaronha01", "Hank", "Aaron", "Mobile", "AL", "USA", 1934),
+                player("aaronto01", "Tommie", "Aaron", "Mobile", "AL", "USA", 1939),
+                player("ruthba01", "Babe", "Ruth", "Baltimore", "MD", "USA", 1895),
+                player("mobilto01", "Tom", "Mobile", "Havana", "La Habana", "Cuba", 1950))));
+        PlayerSearchCriteria filters = new PlayerSearchCriteria();
+        filters.setBirthCountries(List.of("USA", "Cuba"));
+        // An empty list is no filter, not a filter nothing passes
+        filters.setBirthStates(List.of());
+        filters.setMaxBirthYear(1939);
+
+        List<String> textMatches = ids(index.search("USA Cuba", filters, 10)).stream().sorted().toList();
+        List<String> columnarMatches = ids(columnarIndex.search(filters).getPlayers());
+        assertEquals(List.of("aaronha01", "aaronto01", "ruthba01"), columnarMatches);
+        assertEquals(columnarMatches, textMatches);
+    }
+
+    @Test
+    void updateReplacesOldTerms() {
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(
+                player("ruthba01", "George", "Ruth", "Boston", "MA", "USA", 1895))));
+
+        assertTrue(index.search("Baltimore", null, 10).isEmpty());
+        assertEquals(List.of("ruthba01"), ids(index.search("Boston George", null, 10)));
+        assertEquals(4, index.size());
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.repository.PlayerBulkRepository;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerCsvParserTest {
+
+    private static final String HEADER = "playerID,birthYear,nameFirst,debut\n";
+
+    private static final int PLAYER_ID = PlayerBulkRepository.COLUMNS.indexOf("PLAYERID");
+    private static final int BIRTH_YEAR = PlayerBulkRepository.COLUMNS.indexOf("BIRTHYEAR");
+    private static final int FIRST_NAME = PlayerBulkRepository.COLUMNS.indexOf("NAMEFIRST");
+    private static final int DEBUT = PlayerBulkRepository.COLUMNS.indexOf("DEBUT");
+
+    private static ByteBuffer csv(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PlayerCsvParser.ParsedChunk parseAll(ByteBuffer data) {
+        PlayerCsvParser parser = new PlayerCsvParser(data, new int[0]);
+        return parser.parse(data, parser.dataStart(), data.limit());
+    }
+
+    @Test
+    void crlfLineEndsAreTrimmed() {
+        PlayerCsvParser.ParsedChunk chunk = parseAll(csv(HEADER.replace("\n", "\r\n")
+                + "aaronha01,1934,Hank,1954-04-13\r\n"));
+
+        assertEquals(0, chunk.getRejected());
+        Object[] row = chunk.getRows().get(0);
+        assertEquals("aaronha01", row[PLAYER_ID]);
+        assertEquals(1934, row[BIRTH_YEAR]);
+        assertEquals("Hank", row[FIRST_NAME]);
+        assertEquals(LocalDate.of(1954, 4, 13), row[DEBUT]);
+    }
+
+    @Test
+    void emptyAndNegativeNumbers() {
+        PlayerCsvParser.ParsedChunk chunk = parseAll(csv(HEADER + "a,,Tom,\nb,-5,Ann,1990-01-02\n"));
+
+        assertEquals(0, chunk.getRejected());
+        assertNull(chunk.getRows().get(0)[BIRTH_YEAR]);
+        assertNull(chunk.getRows().get(0)[DEBUT]);
+        assertEquals(-5, chunk.getRows().get(1)[BIRTH_YEAR]);
+    }
+
+    @Test
+    void malformedDatesAreRejectedWithTheirColumn() {
+        PlayerCsvParser.ParsedChunk chunk = parseAll(csv(HEADER + "a,1934,Hank,1954-13-01\nb,1934,Tom,1954/04/13\n"));
+
+        assertEquals(2, chunk.getRejected());
+        assertTrue(chunk.getRows().isEmpty());
+        assertTrue(chunk.getFirstError().contains("DEBUT is not a valid date: 1954-13-01"), chunk.getFirstError());
+    }
+
+    @Test
+    void quotedFieldsAndWrongFieldCountsAreRejected() {
+        PlayerCsvParser.ParsedChunk chunk = parseAll(csv(HEADER + "\"a\",1934,Hank,\nb,1934\nc,1934,Tom,\n"));
+
+        assertEquals(2, chunk.getRejected());
+        assertEquals(1, chunk.getRows().size());
+        assertTrue(chunk.getFirstError().contains("quoted"), chunk.getFirstError());
+    }
+
+    @Test
+    void chunksCutMidLineStillCoverEveryLineOnce() {
+        ByteBuffer data = csv(HEADER + "a,1,A,\nbb,22,BB,\nccc,333,CCC,\n");
+        PlayerCsvParser parser = new PlayerCsvParser(data, new int[0]);
+        // Somewhere inside "bb,22,BB": the cut moves to the start of the next line
+        int cut = parser.nextLineStart(data, parser.dataStart() + "a,1,A,\nbb,2".length());
+        assertEquals(parser.dataStart() + "a,1,A,\nbb,22,BB,\n".length(), cut);
+
+        List<Object> ids = new ArrayList<>();
+        for (int[] range : new int[][] {{parser.dataStart(), cut}, {cut, data.limit()}}) {
+            PlayerCsvParser.ParsedChunk chunk = parser.parse(data, range[0], range[1]);
+            assertEquals(0, chunk.getRejected());
+            chunk.getRows().forEach(row -> ids.add(row[PLAYER_ID]));
+        }
+        assertEquals(List.of("a", "bb", "ccc"), ids);
+    }
+
+    @Test
+    void headerWithoutPlayerIdIsRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerCsvParser(csv("nameFirst,debut\n"), new int[0]));
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Starts on a database laid out the way the service created it before the typed schema
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=0s")
+class PlayerDataLoaderMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE PLAYERS AS SELECT * FROM CSVREAD('classpath:Player.csv')");
+            statement.execute("CREATE INDEX idx_lastname ON PLAYERS(nameLast)");
+            // A player created through the API, which the csv does not have
+            statement.execute("INSERT INTO PLAYERS (PLAYERID, BIRTHYEAR, NAMEFIRST, NAMELAST, WEIGHT, BATS, DEBUT) "
+                    + "VALUES ('zzlegacy01', '1990', 'Legacy', 'Player', '', 'R', '2012-04-05')");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void legacyRowsAreConvertedInPlace() {
+        Player created = playerRepository.findById("zzlegacy01").orElseThrow();
+        assertEquals(1990, created.getBirthYear());
+        assertEquals(null, created.getWeight());
+        assertEquals(LocalDate.of(2012, 4, 5), created.getDebut());
+
+        assertEquals(19371L, playerRepository.count());
+        assertEquals("Aaron", playerRepository.findById("aaronha01").orElseThrow().getLastName());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_NAME = 'PLAYERS_LEGACY'", Integer.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Starts on a typed PLAYERS table with the length limits schema.sql used to declare
+@SpringBootTest(properties = "player-service.lookup.simulated-delay=0s")
+class PlayerDataLoaderWideningTest {
+
+    private static final String URL = "jdbc:h2:mem:bounded-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @DynamicPropertySource
+    static void boundedDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE PLAYERS (PLAYERID VARCHAR(16) NOT NULL PRIMARY KEY, "
+                    + "BIRTHYEAR INT, BIRTHMONTH INT, BIRTHDAY INT, "
+                    + "BIRTHCOUNTRY VARCHAR(64), BIRTHSTATE VARCHAR(64), BIRTHCITY VARCHAR(64), "
+                    + "DEATHYEAR INT, DEATHMONTH INT, DEATHDAY INT, "
+                    + "DEATHCOUNTRY VARCHAR(64), DEATHSTATE VARCHAR(64), DEATHCITY VARCHAR(64), "
+                    + "NAMEFIRST VARCHAR(64), NAMELAST VARCHAR(64), NAMEGIVEN VARCHAR(255), "
+                    + "WEIGHT INT, HEIGHT INT, BATS CHAR(1), THROWS CHAR(1), DEBUT DATE, FINALGAME DATE, "
+                    + "RETROID VARCHAR(16), BBREFID VARCHAR(16))");
+            statement.execute("CREATE INDEX idx_lastname ON PLAYERS(nameLast)");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void longValuesAreSavedAfterTheLimitsAreDropped() {
+        Player player = new Player();
+        player.setPlayerId("zz-longer-than-sixteen-01");
+        player.setLastName("L".repeat(200));
+        player.setBats("Both");
+        playerService.savePlayer(player);
+
+        Player saved = playerRepository.findById("zz-longer-than-sixteen-01").orElseThrow();
+        assertEquals(200, saved.getLastName().length());
+        assertEquals("Both", saved.getBats());
+        assertEquals("R", playerRepository.findById("aaronha01").orElseThrow().getBats());
+    }
+}
@@ -0,0 +1,83 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.TeamFeatures;
+import com.app.playerservicejava.model.TeamFeedbackRequest;
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import com.app.playerservicejava.service.PlayersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TeamFeatureIndexTest {
+
+    // Birth date, height and weight all have mean 1910/72/190 and z-scores -1/sqrt(2) (a, b) and sqrt(2) (c)
+    private static final float LOW = (float) (-1 / Math.sqrt(2));
+    private static final float HIGH = (float) Math.sqrt(2);
+    private static final float DELTA = 1e-5f;
+
+    private TeamFeatureIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TeamFeatureIndex();
+        index.onPlayersChanged(new PlayersChangedEvent(List.of(
+                player("a", 1900, 70, 180, "R", "R"),
+                player("b", 1900, 70, 180, "R", "R"),
+                player("c", 1930, 76, 210, "L", "L"),
+                // No birth date, height or weight: zero features that do not move the means
+                player("d", null, null, null, "B", null))));
+    }
+
+    private static Player player(String id, Integer birthYear, Integer height, Integer weight, String bats, String throwStats) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setBirthYear(birthYear);
+        player.setBirthMonth(1);
+        player.setBirthDay(1);
+        player.setHeight(height);
+        player.setWeight(weight);
+        player.setBats(bats);
+        player.setThrowStats(throwStats);
+        return player;
+    }
+
+    @Test
+    void featuresAreStandardizedOverTheIndexedPlayers() {
+        assertArrayEquals(new float[] {LOW, LOW, LOW, 1f, 1f}, index.featuresOf("a").orElseThrow(), DELTA);
+        assertArrayEquals(new float[] {HIGH, HIGH, HIGH, -1f, -1f}, index.featuresOf("c").orElseThrow(), DELTA);
+        assertArrayEquals(new float[] {0f, 0f, 0f, 0f, 0f}, index.featuresOf("d").orElseThrow(), DELTA);
+
+        TeamFeatures raw = new TeamFeatures(1910.0, 72.0, 190.0, "L", "R");
+        assertArrayEquals(new float[] {0f, 0f, 0f, -1f, 1f}, index.featuresFor(raw), DELTA);
+    }
+
+    @Test
+    void nearestIsOrderedByDistanceWithTiesInTableOrder() {
+        assertEquals(List.of("a", "b", "d", "c"), index.nearest(index.featuresOf("a").orElseThrow(), 4));
+        // b is as close to itself as a is, so a comes first
+        assertEquals(List.of("a", "b"), index.nearest(index.featuresOf("b").orElseThrow(), 2));
+        assertEquals(List.of("c"), index.nearest(index.featuresOf("c").orElseThrow(), 1));
+    }
+
+    @Test
+    void generateSkipsExcludedMembersAndKeepsTheTeamSize() {
+        TeamGeneratorService generator = new TeamGeneratorService();
+        ReflectionTestUtils.setField(generator, "teamFeatureIndex", index);
+        ReflectionTestUtils.setField(generator, "maxTeamSize", 100);
+
+        TeamGenerateRequest request = new TeamGenerateRequest("a", null, 3);
+        assertEquals(List.of("a", "b", "d"), generator.generate(request).orElseThrow().getMemberIds());
+
+        generator.feedback(new TeamFeedbackRequest("a", "b", -1, null));
+        TeamGenerateResponse team = generator.generate(request).orElseThrow();
+        assertEquals(List.of("a", "d", "c"), team.getMemberIds());
+        assertEquals(3, team.getTeamSize());
+    }
+}
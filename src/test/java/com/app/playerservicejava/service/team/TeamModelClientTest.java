@@ -0,0 +1,177 @@
+package com.app.playerservicejava.service.team;
+
+import com.app.playerservicejava.model.TeamGenerateRequest;
+import com.app.playerservicejava.model.TeamGenerateResponse;
+import com.app.playerservicejava.service.CircuitBreaker;
+import com.app.playerservicejava.service.team.TeamModelStubServer.Behaviour;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamModelClientTest {
+
+    private TeamModelStubServer stub;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    private TeamModelClient client(IntFunction<Behaviour> script, TeamModelProperties properties) throws IOException {
+        stub = new TeamModelStubServer(script);
+        properties.setUrl(stub.url());
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        meterRegistry = new SimpleMeterRegistry();
+        return new TeamModelClient(properties, httpClient, new ObjectMapper(), meterRegistry);
+    }
+
+    private static TeamModelProperties properties(Duration deadline, Duration hedgeDelay) {
+        TeamModelProperties properties = new TeamModelProperties();
+        properties.setDeadline(deadline);
+        properties.getHedge().setInitialDelay(hedgeDelay);
+        return properties;
+    }
+
+    private static TeamGenerateRequest request(String seedId) {
+        return new TeamGenerateRequest(seedId, null, 2);
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    @Test
+    void stalledAttemptIsRescuedByHedge() throws Exception {
+        TeamModelClient client = client(call -> call == 0 ? Behaviour.STALL : Behaviour.OK,
+                properties(Duration.ofSeconds(2), Duration.ofMillis(50)));
+
+        long start = System.nanoTime();
+        TeamGenerateResponse response = client.generate(request("abbotji01")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("p-1", response.getPredictionId());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < TeamModelStubServer.STALL.toMillis());
+        assertEquals(1.0, meterRegistry.counter("player.team.model.hedges").count());
+    }
+
+    @Test
+    void failedAttemptIsRetriedWithoutWaitingForHedgeDelay() throws Exception {
+        // The hedge delay is past the deadline, so only the failure can trigger the second attempt
+        TeamModelClient client = client(call -> call == 0 ? Behaviour.FAIL : Behaviour.OK,
+                properties(Duration.ofSeconds(2), Duration.ofSeconds(10)));
+
+        TeamGenerateResponse response = client.generate(request("abbotji01")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("p-1", response.getPredictionId());
+        assertEquals(2, stub.calls());
+    }
+
+    @Test
+    void deadlineBoundsCallWhenEveryAttemptStalls() throws Exception {
+        TeamModelClient client = client(call -> Behaviour.STALL, properties(Duration.ofMillis(300), Duration.ofMillis(50)));
+
+        long start = System.nanoTime();
+        Throwable failure = failureOf(client.generate(request("abbotji01")));
+
+        assertInstanceOf(TimeoutException.class, failure);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+    }
+
+    @Test
+    void clientErrorIsPassedOnWithoutRetry() throws Exception {
+        TeamModelClient client = client(call -> Behaviour.BAD_REQUEST, properties(Duration.ofSeconds(2), Duration.ofSeconds(10)));
+
+        Throwable failure = failureOf(client.generate(request("abbotji01")));
+
+        assertEquals(400, assertInstanceOf(TeamModelException.class, failure).getStatus().value());
+        assertEquals(1, stub.calls());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void circuitOpensAfterFailuresAndFailsFast() throws Exception {
+        TeamModelProperties properties = properties(Duration.ofSeconds(2), Duration.ofSeconds(10));
+        properties.getCircuitBreaker().setWindowSize(10);
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        TeamModelClient client = client(call -> Behaviour.FAIL, properties);
+
+        for (int i = 0; i < 5; i++) {
+            failureOf(client.generate(request("seed" + i)));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+        int callsWhenOpened = stub.calls();
+
+        Throwable failure = failureOf(client.generate(request("another")));
+
+        assertEquals(503, assertInstanceOf(TeamModelException.class, failure).getStatus().value());
+        assertEquals(callsWhenOpened, stub.calls());
+    }
+
+    @Test
+    void bulkheadRejectsInsteadOfQueueing() throws Exception {
+        TeamModelProperties properties = properties(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        properties.setMaxConcurrentCalls(1);
+        TeamModelClient client = client(call -> Behaviour.STALL, properties);
+
+        CompletableFuture<TeamGenerateResponse> first = client.generate(request("abbotji01"));
+        Throwable rejected = failureOf(client.generate(request("aaronha01")));
+
+        assertEquals(503, assertInstanceOf(TeamModelException.class, rejected).getStatus().value());
+        assertInstanceOf(TimeoutException.class, failureOf(first));
+    }
+
+    @Test
+    void repeatedRequestIsServedFromCache() throws Exception {
+        TeamModelClient client = client(call -> Behaviour.OK, properties(Duration.ofSeconds(2), Duration.ofSeconds(10)));
+
+        TeamGenerateResponse first = client.generate(request("abbotji01")).get(5, TimeUnit.SECONDS);
+        TeamGenerateResponse second = client.generate(request("abbotji01")).get(5, TimeUnit.SECONDS);
+
+        assertEquals(first, second);
+        assertEquals(1, stub.calls());
+    }
+
+    @Test
+    void pythonFailureProfileStaysWithinDeadline() throws Exception {
+        stub = TeamModelStubServer.withPythonProfile();
+        TeamModelProperties properties = properties(Duration.ofSeconds(1), Duration.ofMillis(50));
+        properties.setUrl(stub.url());
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        TeamModelClient client = new TeamModelClient(properties, httpClient, new ObjectMapper(), new SimpleMeterRegistry());
+
+        int failures = 0;
+        for (int i = 0; i < 200; i++) {
+            long start = System.nanoTime();
+            try {
+                client.generate(request("seed" + i)).get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures++;
+            }
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500, "call " + i + " exceeded the deadline");
+        }
+        // Only a failure or stall on both the attempt and its hedge can fail a call (~0.04%)
+        assertTrue(failures <= 2, failures + " calls failed");
+    }
+}
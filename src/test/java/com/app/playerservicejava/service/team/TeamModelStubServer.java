@@ -0,0 +1,96 @@
+package com.app.playerservicejava.service.team;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Local stand-in for the Python team-model server. By default it reproduces its failure profile (1% HTTP 500,
+ * 1% six-second stall); tests can script the behaviour of each call instead.
+ */
+class TeamModelStubServer implements AutoCloseable {
+
+    enum Behaviour { OK, FAIL, STALL, BAD_REQUEST }
+
+    static final Duration STALL = Duration.ofSeconds(6);
+
+    private final HttpServer server;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final IntFunction<Behaviour> script;
+
+    /**
+     * @param script behaviour of the n-th call (0-based)
+     */
+    TeamModelStubServer(IntFunction<Behaviour> script) throws IOException {
+        this.script = script;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/team/generate", exchange -> handle(exchange,
+                "{\"seed_id\":\"abbotji01\",\"prediction_id\":\"p-%d\",\"team_size\":2,\"member_ids\":[\"abbotji01\",\"combspa01\"]}"));
+        server.createContext("/team/feedback", exchange -> handle(exchange,
+                "{\"seed_id\":\"abbotji01\",\"prediction_id\":\"p-%d\",\"member_id\":\"combspa01\",\"accepted\":true}"));
+        server.start();
+    }
+
+    /**
+     * The Python server's profile: 1% failures and 1% stalls, at random.
+     */
+    static TeamModelStubServer withPythonProfile() throws IOException {
+        return new TeamModelStubServer(call -> {
+            double roll = ThreadLocalRandom.current().nextDouble();
+            return roll < 0.01 ? Behaviour.FAIL : roll < 0.02 ? Behaviour.STALL : Behaviour.OK;
+        });
+    }
+
+    URI url() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    int calls() {
+        return calls.get();
+    }
+
+    private void handle(HttpExchange exchange, String bodyTemplate) throws IOException {
+        int call = calls.getAndIncrement();
+        exchange.getRequestBody().readAllBytes();
+        switch (script.apply(call)) {
+            case FAIL -> respond(exchange, 500, "{\"error\":\"Unable to generate result.\"}");
+            case BAD_REQUEST -> respond(exchange, 400, "{\"error\":\"invalid payload\"}");
+            case STALL -> {
+                try {
+                    Thread.sleep(STALL.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, 200, String.format(bodyTemplate, call));
+            }
+            default -> respond(exchange, 200, String.format(bodyTemplate, call));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException e) {
+            // Client gave up (cancelled hedge loser); nothing to do
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}